@@ -0,0 +1,136 @@
+package cs3500.reversi.bench;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.MoveAnalysis;
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.Tile;
+
+/**
+ * Represents how far into a game a benchmarked position is. Every position is taken from the same
+ * seeded random game for its board size, so a benchmark sees the same boards on every run and on
+ * every release, and its numbers can be compared.
+ */
+public enum GamePhase {
+  OPENING, MIDGAME, ENDGAME, SOLVABLE;
+
+  /**
+   * The most empty tiles SOLVABLE's position has.
+   */
+  public static final int SOLVABLE_EMPTIES = 10;
+
+  // the game every position of a board size is taken from
+  private static final long SEED = 3500;
+
+  /**
+   * Creates a started model for the given board size at this phase of the game, with black to
+   * move and at least one legal move for black.
+   *
+   * <ul>
+   *   <li>OPENING is the starting position.</li>
+   *   <li>MIDGAME is the position halfway through the game.</li>
+   *   <li>ENDGAME is the last position of the game (before it ends) where black can move.</li>
+   *   <li>SOLVABLE is the ENDGAME position with all but SOLVABLE_EMPTIES of its empty tiles
+   *   filled in at random, where the game is still not over. Random games end long before the
+   *   board fills up on all but the smallest boards, so this is what gives an exact endgame
+   *   search a position it can finish on every board size.</li>
+   * </ul>
+   *
+   * @param hexSideLength the side length of the board.
+   * @return a new model of the position, which the caller may play moves on.
+   */
+  public ReversiModel newModel(int hexSideLength) {
+    return newModel(board(hexSideLength), hexSideLength);
+  }
+
+  /**
+   * Gets the board of this phase's position for the given board size (see newModel), which can
+   * be turned into a fresh model with newModel(board, hexSideLength) as often as needed.
+   *
+   * @param hexSideLength the side length of the board.
+   * @return the board of the position, black to move.
+   */
+  public Map<Tile, ReversiPiece> board(int hexSideLength) {
+    List<Map<Tile, ReversiPiece>> blackToMove = randomGame(hexSideLength);
+    switch (this) {
+      case OPENING:
+        return blackToMove.get(0);
+      case MIDGAME:
+        return blackToMove.get(blackToMove.size() / 2);
+      case ENDGAME:
+        return blackToMove.get(blackToMove.size() - 1);
+      case SOLVABLE:
+        return fillIn(blackToMove.get(blackToMove.size() - 1), hexSideLength);
+      default:
+        throw new IllegalStateException("Unknown game phase");
+    }
+  }
+
+  /**
+   * Creates a started model of the given board, with black to move.
+   *
+   * @param board         the board to play on.
+   * @param hexSideLength the side length of the board.
+   * @return a new model of the board.
+   */
+  public static ReversiModel newModel(Map<Tile, ReversiPiece> board, int hexSideLength) {
+    ReversiModel model = new ReversiGameModel(board, hexSideLength);
+    model.startGame();
+    return model;
+  }
+
+  // plays the seeded game for the board size, and keeps the boards where black had a move
+  private static List<Map<Tile, ReversiPiece>> randomGame(int hexSideLength) {
+    Random rand = new Random(SEED);
+    ReversiModel model = new ReversiGameModel(hexSideLength);
+    model.startGame();
+    List<Map<Tile, ReversiPiece>> blackToMove = new ArrayList<>();
+    while (!model.isGameOver()) {
+      MoveAnalysis moves = model.analyzeMoves(model.getCurrentPlayer());
+      if (moves.isEmpty()) {
+        model.pass();
+        continue;
+      }
+      if (model.getCurrentPlayer() == ReversiPiece.BLACK) {
+        blackToMove.add(model.getBoard());
+      }
+      int move = rand.nextInt(moves.size());
+      model.move(moves.getQ(move), moves.getR(move), moves.getS(move));
+    }
+    return blackToMove;
+  }
+
+  // fills in random empty tiles of the board with random discs until only SOLVABLE_EMPTIES are
+  // left, keeping one of black's moves empty; filling a tile never takes away a move, since the
+  // line a move flips is already full, so only the game ending early is ever retried
+  private static Map<Tile, ReversiPiece> fillIn(Map<Tile, ReversiPiece> board,
+                                                int hexSideLength) {
+    Random rand = new Random(SEED);
+    MoveAnalysis moves = newModel(board, hexSideLength).analyzeMoves(ReversiPiece.BLACK);
+    Tile keep = new Tile(moves.getQ(0), moves.getR(0), moves.getS(0));
+    List<Tile> empty = new ArrayList<>();
+    for (Tile tile : HexGrid.of(hexSideLength).getTiles()) {
+      if (board.get(tile) == ReversiPiece.EMPTY && !tile.equals(keep)) {
+        empty.add(tile);
+      }
+    }
+    while (true) {
+      Collections.shuffle(empty, rand);
+      Map<Tile, ReversiPiece> filled = new HashMap<>(board);
+      for (int i = SOLVABLE_EMPTIES - 1; i < empty.size(); i++) {
+        filled.put(empty.get(i), rand.nextBoolean() ? ReversiPiece.BLACK : ReversiPiece.WHITE);
+      }
+      if (!newModel(filled, hexSideLength).isGameOver()) {
+        return filled;
+      }
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package cs3500.reversi.bench;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cs3500.reversi.model.MoveAnalysis;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.Tile;
+
+/**
+ * Benchmarks of the model's moves and queries, on every board size and phase of the game. The
+ * queries are asked of every tile on the board, so their numbers are per board scan rather than
+ * per tile, and stay comparable when the board grows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+  // how many copies of the position each call of move plays on, so the call is long enough to
+  // time despite setting up every call
+  private static final int BATCH = 1000;
+
+  @Param({"3", "6", "9", "12"})
+  private int hexSideLength;
+
+  @Param({"OPENING", "MIDGAME", "ENDGAME", "SOLVABLE"})
+  private GamePhase phase;
+
+  private Map<Tile, ReversiPiece> board;
+  private ReversiModel model; // the position the queries read, which they never change
+  private Tile[] tiles; // every tile on the board
+  private Tile move; // a legal move for black in the position
+  private ReversiModel[] toMoveOn; // fresh copies of the position for each call of move
+
+  /**
+   * Builds the position of this trial, and finds a move to play in it.
+   */
+  @Setup(Level.Trial)
+  public void setUpTrial() {
+    this.board = this.phase.board(this.hexSideLength);
+    this.model = GamePhase.newModel(this.board, this.hexSideLength);
+    this.tiles = this.board.keySet().toArray(new Tile[0]);
+    MoveAnalysis moves = this.model.analyzeMoves(ReversiPiece.BLACK);
+    this.move = new Tile(moves.getQ(0), moves.getR(0), moves.getS(0));
+  }
+
+  /**
+   * Copies the position again for the next call of move, which changes the models it plays on.
+   */
+  @Setup(Level.Invocation)
+  public void setUpInvocation() {
+    this.toMoveOn = new ReversiModel[BATCH];
+    for (int i = 0; i < BATCH; i++) {
+      this.toMoveOn[i] = GamePhase.newModel(this.board, this.hexSideLength);
+    }
+  }
+
+  /**
+   * Plays one move for black on each copy of the position; the time reported is per move.
+   *
+   * @param blackhole where the models played on go, so no move is optimized away.
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public void move(Blackhole blackhole) {
+    for (ReversiModel model : this.toMoveOn) {
+      model.move(this.move.getQ(), this.move.getR(), this.move.getS());
+      blackhole.consume(model);
+    }
+  }
+
+  /**
+   * Asks whether black could move to each tile of the board.
+   *
+   * @param blackhole where the answers go, so none are optimized away.
+   */
+  @Benchmark
+  public void isValidMove(Blackhole blackhole) {
+    for (Tile tile : this.tiles) {
+      blackhole.consume(this.model.isValidMove(tile.getQ(), tile.getR(), tile.getS(),
+              ReversiPiece.BLACK));
+    }
+  }
+
+  /**
+   * Asks how many tiles black would gain by moving to each tile of the board.
+   *
+   * @param blackhole where the answers go, so none are optimized away.
+   */
+  @Benchmark
+  public void numTilesGained(Blackhole blackhole) {
+    for (Tile tile : this.tiles) {
+      blackhole.consume(this.model.numTilesGained(tile.getQ(), tile.getR(), tile.getS(),
+              ReversiPiece.BLACK));
+    }
+  }
+
+  /**
+   * Asks whether the game is over.
+   *
+   * @return the answer.
+   */
+  @Benchmark
+  public boolean isGameOver() {
+    return this.model.isGameOver();
+  }
+
+  /**
+   * Asks both players' scores.
+   *
+   * @param blackhole where the answers go, so none are optimized away.
+   */
+  @Benchmark
+  public void getScore(Blackhole blackhole) {
+    blackhole.consume(this.model.getScore(ReversiPiece.BLACK));
+    blackhole.consume(this.model.getScore(ReversiPiece.WHITE));
+  }
+
+  /**
+   * Copies out the whole board.
+   *
+   * @return the copy.
+   */
+  @Benchmark
+  public Map<Tile, ReversiPiece> getBoard() {
+    return this.model.getBoard();
+  }
+}
@@ -0,0 +1,173 @@
+package cs3500.reversi.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.player.AlphaBetaStrategy;
+import cs3500.reversi.player.AvoidNextToCornersStrategy;
+import cs3500.reversi.player.CaptureMostStrategy;
+import cs3500.reversi.player.EndgameStrategy;
+import cs3500.reversi.player.IPlayerMove;
+import cs3500.reversi.player.IPlayerMoveStrategy;
+import cs3500.reversi.player.IterativeDeepeningStrategy;
+import cs3500.reversi.player.LazySmpStrategy;
+import cs3500.reversi.player.ManyStrategy;
+import cs3500.reversi.player.MonteCarloStrategy;
+import cs3500.reversi.player.ParallelAlphaBetaStrategy;
+import cs3500.reversi.player.PatternEvaluator;
+import cs3500.reversi.player.PlayCornersStrategy;
+import cs3500.reversi.player.PrincipalVariationStrategy;
+import cs3500.reversi.player.TranspositionTable;
+import cs3500.reversi.player.WeightedTileEvaluator;
+
+/**
+ * Benchmarks of how long each strategy takes to choose black's move, on every board size and
+ * phase of the game. The strategies that think for a set time are given a time limit far longer
+ * than they need and a fixed depth (or number of playouts) instead, so they always do the same
+ * work and their numbers mean something. Transposition tables are cleared before every call, so
+ * no call is sped up by what an earlier one searched.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrategyBenchmark {
+  // how deep the look-ahead strategies search
+  private static final int DEPTH = 3;
+  // a time limit no fixed-depth search comes near
+  private static final long NO_TIME_LIMIT = 60_000;
+  private static final long PLAYOUTS = 500;
+  // the most empty tiles the endgame strategy solves from, so that it solves SOLVABLE's position
+  private static final int MAX_EMPTIES = GamePhase.SOLVABLE_EMPTIES;
+
+  @Param({"3", "6", "9", "12"})
+  private int hexSideLength;
+
+  @Param({"OPENING", "MIDGAME", "ENDGAME", "SOLVABLE"})
+  private GamePhase phase;
+
+  @Param({"strategy1", "strategy2", "strategy3", "manystrategy", "alphabeta", "patterns",
+      "parallel", "timed", "smp", "pvs", "mcts", "endgame"})
+  private String strategy;
+
+  private ReversiModel model;
+  private IPlayerMoveStrategy toPlay;
+  private Optional<TranspositionTable> table;
+
+  /**
+   * Builds the position and the strategy of this trial.
+   */
+  @Setup(Level.Trial)
+  public void setUpTrial() {
+    this.model = this.phase.newModel(this.hexSideLength);
+    int threads = Runtime.getRuntime().availableProcessors();
+    switch (this.strategy) {
+      case "strategy1":
+        this.toPlay = new CaptureMostStrategy();
+        break;
+      case "strategy2":
+        this.toPlay = new AvoidNextToCornersStrategy();
+        break;
+      case "strategy3":
+        this.toPlay = new PlayCornersStrategy();
+        break;
+      case "manystrategy":
+        List<IPlayerMoveStrategy> strategies = new ArrayList<>();
+        strategies.add(new PlayCornersStrategy());
+        strategies.add(new AvoidNextToCornersStrategy());
+        strategies.add(new CaptureMostStrategy());
+        this.toPlay = new ManyStrategy(strategies);
+        break;
+      case "alphabeta":
+        this.toPlay = new AlphaBetaStrategy(DEPTH);
+        break;
+      case "patterns":
+        this.toPlay = new AlphaBetaStrategy(DEPTH, new PatternEvaluator());
+        break;
+      case "parallel":
+        this.toPlay = new ParallelAlphaBetaStrategy(DEPTH, threads, new WeightedTileEvaluator());
+        break;
+      case "timed":
+        this.toPlay = new IterativeDeepeningStrategy(NO_TIME_LIMIT, DEPTH,
+                new WeightedTileEvaluator());
+        break;
+      case "smp":
+        this.toPlay = new LazySmpStrategy(NO_TIME_LIMIT, threads, DEPTH,
+                new WeightedTileEvaluator(), AlphaBetaStrategy.DEFAULT_TABLE_SIZE);
+        break;
+      case "pvs":
+        this.toPlay = new PrincipalVariationStrategy(NO_TIME_LIMIT, DEPTH,
+                new WeightedTileEvaluator(), AlphaBetaStrategy.DEFAULT_TABLE_SIZE);
+        break;
+      case "mcts":
+        this.toPlay = new MonteCarloStrategy(NO_TIME_LIMIT, PLAYOUTS, threads, 3500);
+        break;
+      case "endgame":
+        this.toPlay = new EndgameStrategy(MAX_EMPTIES, new AlphaBetaStrategy(DEPTH));
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown strategy: " + this.strategy);
+    }
+    this.table = tableOf(this.toPlay);
+  }
+
+  // the transposition table the strategy keeps between moves, if it keeps one
+  private static Optional<TranspositionTable> tableOf(IPlayerMoveStrategy strategy) {
+    if (strategy instanceof AlphaBetaStrategy) {
+      return ((AlphaBetaStrategy) strategy).getTranspositionTable();
+    } else if (strategy instanceof IterativeDeepeningStrategy) {
+      return ((IterativeDeepeningStrategy) strategy).getTranspositionTable();
+    } else if (strategy instanceof LazySmpStrategy) {
+      return Optional.of(((LazySmpStrategy) strategy).getTranspositionTable());
+    } else if (strategy instanceof PrincipalVariationStrategy) {
+      return ((PrincipalVariationStrategy) strategy).getTranspositionTable();
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Forgets everything the strategy searched in earlier calls.
+   */
+  @Setup(Level.Invocation)
+  public void setUpInvocation() {
+    this.table.ifPresent(TranspositionTable::clear);
+  }
+
+  /**
+   * Chooses black's move.
+   *
+   * @return the move chosen.
+   */
+  @Benchmark
+  public Optional<IPlayerMove> playStrategy() {
+    return this.toPlay.playStrategy(this.model, ReversiPiece.BLACK);
+  }
+
+  /**
+   * Stops the threads the strategy of this trial searched on.
+   */
+  @TearDown(Level.Trial)
+  public void tearDownTrial() {
+    this.toPlay.close();
+  }
+}
@@ -0,0 +1,214 @@
+package cs3500.reversi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.player.AlphaBetaStrategy;
+import cs3500.reversi.player.AvoidNextToCornersStrategy;
+import cs3500.reversi.player.CaptureMostStrategy;
+import cs3500.reversi.player.EndgameStrategy;
+import cs3500.reversi.player.HumanStrategy;
+import cs3500.reversi.player.IPlayerMoveStrategy;
+import cs3500.reversi.player.IterativeDeepeningStrategy;
+import cs3500.reversi.player.LazySmpStrategy;
+import cs3500.reversi.player.ManyStrategy;
+import cs3500.reversi.player.MonteCarloStrategy;
+import cs3500.reversi.player.ParallelAlphaBetaStrategy;
+import cs3500.reversi.player.PatternEvaluator;
+import cs3500.reversi.player.PlayCornersStrategy;
+import cs3500.reversi.player.PrincipalVariationStrategy;
+import cs3500.reversi.player.Player;
+import cs3500.reversi.player.Strategy;
+import cs3500.reversi.player.WeightedTileEvaluator;
+
+/**
+ * Represents a helper class for parsing players from command line arguments.
+ */
+final class ReversiArgParser {
+  private int argIndex;
+  private final int strategyThreads; // 0 for one per available processor
+  private final IPlayerMoveStrategy strategy1;
+  private final int strategy2Index;
+  private final IPlayerMoveStrategy strategy2;
+  private final Player player1;
+  private final Player player2;
+
+  /**
+   * Creates a helper parser objects for Reversi.
+   * @param args            the arguments to read.
+   * @param from            the index of the argument the first strategy starts at.
+   * @param strategyThreads the number of threads the strategies that search on several threads
+   *                        use, or 0 for one per available processor.
+   * @param bothPlayers     whether to parse a second strategy after the first, and make players
+   *                        of the two; if not, only strategy1 is parsed.
+   */
+  private ReversiArgParser(String[] args, int from, int strategyThreads, boolean bothPlayers) {
+    this.argIndex = from;
+    this.strategyThreads = strategyThreads;
+    this.strategy1 = getStrategy(args);
+    if (bothPlayers) {
+      this.argIndex += 1;
+      this.strategy2Index = this.argIndex;
+      this.strategy2 = getStrategy(args);
+      this.player1 = new Player(new Strategy(this.strategy1), ReversiPiece.BLACK);
+      this.player2 = new Player(new Strategy(this.strategy2), ReversiPiece.WHITE);
+    } else {
+      this.strategy2Index = -1;
+      this.strategy2 = null;
+      this.player1 = null;
+      this.player2 = null;
+    }
+  }
+
+  // the number of threads for a strategy that searches on several
+  private int threads() {
+    return this.strategyThreads == 0 ? Runtime.getRuntime().availableProcessors()
+            : this.strategyThreads;
+  }
+
+  private IPlayerMoveStrategy getStrategy(String[] args) {
+    if (this.argIndex >= args.length) {
+      throw new IllegalArgumentException("Index out of bounds");
+    }
+    String input = args[this.argIndex].toUpperCase();
+    switch (input) {
+      case "HUMAN":
+        return new HumanStrategy();
+      case "STRATEGY1":
+        return new CaptureMostStrategy();
+      case "STRATEGY2":
+        return new AvoidNextToCornersStrategy();
+      case "STRATEGY3":
+        return new PlayCornersStrategy();
+      case "ALPHABETA":
+        this.argIndex += 1;
+        return new AlphaBetaStrategy(Integer.parseInt(args[this.argIndex]));
+      case "PATTERNS":
+        this.argIndex += 1;
+        return new AlphaBetaStrategy(Integer.parseInt(args[this.argIndex]),
+                new PatternEvaluator());
+      case "PARALLEL":
+        this.argIndex += 1;
+        return new ParallelAlphaBetaStrategy(Integer.parseInt(args[this.argIndex]), threads(),
+                new WeightedTileEvaluator());
+      case "SMP":
+        this.argIndex += 1;
+        return new LazySmpStrategy(Long.parseLong(args[this.argIndex]), threads());
+      case "MCTS":
+        this.argIndex += 1;
+        return new MonteCarloStrategy(Long.parseLong(args[this.argIndex]), Long.MAX_VALUE,
+                threads(), System.nanoTime());
+      case "PVS":
+        this.argIndex += 1;
+        return new PrincipalVariationStrategy(Long.parseLong(args[this.argIndex]));
+      case "TIMED":
+        this.argIndex += 1;
+        return new IterativeDeepeningStrategy(Long.parseLong(args[this.argIndex]));
+      case "ENDGAME":
+        this.argIndex += 1;
+        int maxEmpties = Integer.parseInt(args[this.argIndex]);
+        this.argIndex += 1;
+        return new EndgameStrategy(maxEmpties, getStrategy(args));
+      case "MANYSTRATEGY":
+        this.argIndex += 1;
+        int numStrategies = Integer.parseInt(args[this.argIndex]);
+        List<IPlayerMoveStrategy> all = new ArrayList<>();
+        for (int i = 0; i < numStrategies; i++) {
+          this.argIndex += 1;
+          all.add(getStrategy(args));
+        }
+        return new ManyStrategy(all);
+      default:
+        throw new IllegalArgumentException("Invalid Player Type");
+    }
+  }
+
+  /**
+   * Gets the strategy parsed for player1.
+   * @return the strategy.
+   */
+  public IPlayerMoveStrategy getStrategy1() {
+    return this.strategy1;
+  }
+
+  /**
+   * Gets the index of the argument player2's strategy starts at.
+   * @return the index.
+   */
+  public int getStrategy2Index() {
+    return this.strategy2Index;
+  }
+
+  /**
+   * Gets the strategy parsed for player2.
+   * @return the strategy.
+   */
+  public IPlayerMoveStrategy getStrategy2() {
+    return this.strategy2;
+  }
+
+  /**
+   * Gets the constructed player object for player1 from the parser.
+   * @return a player.
+   */
+  public Player getPlayer1() {
+    return this.player1;
+  }
+
+  /**
+   * Gets the constructed player object for player2 from the parser.
+   * @return a player.
+   */
+  public Player getPlayer2() {
+    return this.player2;
+  }
+
+  /**
+   * Static method for parsing players from command line arguments.
+   *
+   * @param args input to main.
+   * @return ReversiArgParser instance containing parsed players.
+   */
+  public static ReversiArgParser parsePlayers(String[] args) {
+    return new ReversiArgParser(args, 0, 0, true);
+  }
+
+  /**
+   * Static method for parsing players from command line arguments, with the strategies that
+   * search on several threads held to the given number of threads.
+   *
+   * @param args            input to main.
+   * @param strategyThreads the number of threads each of those strategies uses, or 0 for one
+   *                        per available processor.
+   * @return ReversiArgParser instance containing parsed players.
+   * @throws IllegalArgumentException if the number of threads is negative.
+   */
+  public static ReversiArgParser parsePlayers(String[] args, int strategyThreads)
+          throws IllegalArgumentException {
+    if (strategyThreads < 0) {
+      throw new IllegalArgumentException("Number of threads cannot be negative");
+    }
+    return new ReversiArgParser(args, 0, strategyThreads, true);
+  }
+
+  /**
+   * Static method for parsing just one strategy from command line arguments, starting at the
+   * given index (0 for player1's, or getStrategy2Index for player2's), so that making one player's
+   * strategy never makes the other's.
+   *
+   * @param args            input to main.
+   * @param index           the index of the argument the strategy starts at.
+   * @param strategyThreads the number of threads a strategy that searches on several uses, or 0
+   *                        for one per available processor.
+   * @return the strategy.
+   * @throws IllegalArgumentException if the number of threads is negative.
+   */
+  public static IPlayerMoveStrategy parseStrategy(String[] args, int index, int strategyThreads)
+          throws IllegalArgumentException {
+    if (strategyThreads < 0) {
+      throw new IllegalArgumentException("Number of threads cannot be negative");
+    }
+    return new ReversiArgParser(args, index, strategyThreads, false).strategy1;
+  }
+}
@@ -0,0 +1,232 @@
+package cs3500.reversi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import cs3500.reversi.model.MoveAnalysis;
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.player.HumanChoice;
+import cs3500.reversi.player.IPlayerMove;
+import cs3500.reversi.player.IPlayerMoveStrategy;
+import cs3500.reversi.player.Strategy;
+
+/**
+ * Represents a tournament that plays many games between two strategies without any view, on
+ * several threads at once, to tell which strategy is stronger.
+ *
+ * <p>Most strategies always play the same move in the same position, so every game starts with a
+ * few random moves to make the games differ. Games are played in pairs from the same random
+ * opening, with the strategies swapping colors between the two, so neither gains from the
+ * opening or from moving first. Each thread makes its own pair of strategies (strategies may
+ * keep state between moves, so they are never shared between threads), plays each game on its
+ * own model, and closes its strategies once there are no games left.
+ */
+public final class Tournament {
+  // the seed of the openings played from the command line, the same every run so that the
+  // outcomes of two versions of a strategy can be compared
+  private static final long COMMAND_LINE_SEED = 3500;
+
+  private final Supplier<IPlayerMoveStrategy> first;
+  private final Supplier<IPlayerMoveStrategy> second;
+  private final int hexSideLength;
+  private final int threads;
+  private final int openingMoves;
+  private final long seed;
+
+  /**
+   * Creates a tournament between the strategies the given suppliers make.
+   *
+   * @param first         makes the first strategy, once for every thread.
+   * @param second        makes the second strategy, once for every thread.
+   * @param hexSideLength the side length of the board the games are played on.
+   * @param threads       the number of games to play at once.
+   * @param openingMoves  the number of random moves every game starts with.
+   * @param seed          the seed the random openings are made from.
+   * @throws IllegalArgumentException if the side length is smaller than 2, the number of threads
+   *                                  is less than 1, or the number of opening moves is negative.
+   */
+  public Tournament(Supplier<IPlayerMoveStrategy> first, Supplier<IPlayerMoveStrategy> second,
+                    int hexSideLength, int threads, int openingMoves, long seed)
+          throws IllegalArgumentException {
+    if (hexSideLength < 2) {
+      throw new IllegalArgumentException("Board side length must be at least 2");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Cannot play on less than one thread");
+    }
+    if (openingMoves < 0) {
+      throw new IllegalArgumentException("Number of opening moves cannot be negative");
+    }
+    this.first = Objects.requireNonNull(first);
+    this.second = Objects.requireNonNull(second);
+    this.hexSideLength = hexSideLength;
+    this.threads = threads;
+    this.openingMoves = openingMoves;
+    this.seed = seed;
+  }
+
+  /**
+   * Plays the given number of games, the first strategy playing black in every even-numbered
+   * game and white in every odd-numbered one.
+   *
+   * @param games the number of games to play.
+   * @return the outcome, for the first strategy.
+   * @throws IllegalArgumentException if the number of games is negative, or a strategy is a
+   *                                  human's.
+   */
+  public TournamentResult play(int games) throws IllegalArgumentException {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+    AtomicInteger nextGame = new AtomicInteger();
+    LongAdder wins = new LongAdder();
+    LongAdder losses = new LongAdder();
+    LongAdder draws = new LongAdder();
+    LongAdder firstDiscs = new LongAdder();
+    LongAdder secondDiscs = new LongAdder();
+    long start = System.nanoTime();
+    ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+    try {
+      List<Future<?>> workers = new ArrayList<>();
+      for (int t = 0; t < this.threads; t++) {
+        workers.add(pool.submit(() -> {
+          try (IPlayerMoveStrategy firstPlayer = this.first.get();
+               IPlayerMoveStrategy secondPlayer = this.second.get()) {
+            Strategy firstStrategy = new Strategy(firstPlayer);
+            Strategy secondStrategy = new Strategy(secondPlayer);
+            for (int game = nextGame.getAndIncrement(); game < games;
+                 game = nextGame.getAndIncrement()) {
+              ReversiPiece firstPiece = game % 2 == 0 ? ReversiPiece.BLACK : ReversiPiece.WHITE;
+              ReversiPiece secondPiece = game % 2 == 0 ? ReversiPiece.WHITE : ReversiPiece.BLACK;
+              ReversiModel model = playGame(game, firstPiece, firstStrategy, secondStrategy);
+              int firstScore = model.getScore(firstPiece);
+              int secondScore = model.getScore(secondPiece);
+              if (firstScore > secondScore) {
+                wins.increment();
+              } else if (firstScore < secondScore) {
+                losses.increment();
+              } else {
+                draws.increment();
+              }
+              firstDiscs.add(firstScore);
+              secondDiscs.add(secondScore);
+            }
+          } catch (RuntimeException | Error e) {
+            nextGame.set(games); // so the other workers stop once their current game is over
+            throw e;
+          }
+        }));
+      }
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament was interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("A game could not be played", e.getCause());
+    } finally {
+      nextGame.set(games);
+      pool.shutdownNow();
+    }
+    return new TournamentResult(wins.sum(), losses.sum(), draws.sum(), firstDiscs.sum(),
+            secondDiscs.sum(), System.nanoTime() - start);
+  }
+
+  // plays one game to the end, from the random opening of its pair, and returns its model
+  private ReversiModel playGame(int game, ReversiPiece firstPiece, Strategy firstStrategy,
+                                Strategy secondStrategy) {
+    ReversiModel model = new ReversiGameModel(this.hexSideLength);
+    model.startGame();
+    Random rand = new Random(this.seed + game / 2);
+    for (int i = 0; i < this.openingMoves && !model.isGameOver(); i++) {
+      MoveAnalysis moves = model.analyzeMoves(model.getCurrentPlayer());
+      if (moves.isEmpty()) {
+        model.pass();
+      } else {
+        int move = rand.nextInt(moves.size());
+        model.move(moves.getQ(move), moves.getR(move), moves.getS(move));
+      }
+    }
+    while (!model.isGameOver()) {
+      ReversiPiece toMove = model.getCurrentPlayer();
+      IPlayerMove move = (toMove == firstPiece ? firstStrategy : secondStrategy)
+              .chooseMove(model, toMove);
+      if (move instanceof HumanChoice) {
+        throw new IllegalArgumentException("A tournament cannot have human players");
+      }
+      move.run(model);
+    }
+    return model;
+  }
+
+  /**
+   * Creates a tournament between two strategies named as for Reversi. Every thread parses only
+   * the arguments of the strategy it is making, and when games are played on more than one
+   * thread at once, the strategies that would search on several threads of their own search on
+   * one instead, since the tournament already keeps every processor busy.
+   *
+   * @param players       the two strategies' arguments, one after the other.
+   * @param hexSideLength the side length of the board the games are played on.
+   * @param threads       the number of games to play at once.
+   * @param openingMoves  the number of random moves every game starts with.
+   * @param seed          the seed the random openings are made from.
+   * @return the tournament.
+   * @throws IllegalArgumentException if the strategies cannot be parsed, or for any of the
+   *                                  reasons the constructor throws.
+   */
+  static Tournament fromCommandLine(String[] players, int hexSideLength, int threads,
+                                    int openingMoves, long seed) throws IllegalArgumentException {
+    int strategyThreads = threads > 1 ? 1 : 0;
+    // parsing once up front reports a bad strategy before any thread starts, and finds where
+    // the second strategy's arguments start
+    ReversiArgParser parsed = ReversiArgParser.parsePlayers(players, strategyThreads);
+    parsed.getStrategy1().close();
+    parsed.getStrategy2().close();
+    int secondIndex = parsed.getStrategy2Index();
+    return new Tournament(
+        () -> ReversiArgParser.parseStrategy(players, 0, strategyThreads),
+        () -> ReversiArgParser.parseStrategy(players, secondIndex, strategyThreads),
+        hexSideLength, threads, openingMoves, seed);
+  }
+
+  /**
+   * Plays a tournament and prints its outcome. The arguments are the number of games, the side
+   * length of the board, the number of threads (0 for one per available processor), the number
+   * of random opening moves, and then the two strategies, named as for Reversi (e.g.
+   * {@code 100000 6 0 4 strategy1 alphabeta 3}).
+   *
+   * @param args the tournament's settings.
+   */
+  public static void main(String[] args) {
+    if (args.length < 6) {
+      throw new IllegalArgumentException("Usage: <games> <side length> <threads> "
+              + "<opening moves> <player1> <player2>");
+    }
+    int games = Integer.parseInt(args[0]);
+    int hexSideLength = Integer.parseInt(args[1]);
+    int threads = Integer.parseInt(args[2]);
+    if (threads == 0) {
+      threads = Runtime.getRuntime().availableProcessors();
+    }
+    int openingMoves = Integer.parseInt(args[3]);
+    String[] players = Arrays.copyOfRange(args, 4, args.length);
+    System.out.println(fromCommandLine(players, hexSideLength, threads, openingMoves,
+            COMMAND_LINE_SEED).play(games));
+  }
+}
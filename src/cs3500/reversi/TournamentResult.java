@@ -0,0 +1,106 @@
+package cs3500.reversi;
+
+/**
+ * Represents the outcome of a tournament between two strategies: how many games the first
+ * strategy won, lost and drew, the average number of discs each strategy finished with, and how
+ * quickly the games were played.
+ */
+public final class TournamentResult {
+  private final long wins;
+  private final long losses;
+  private final long draws;
+  private final long firstDiscs;
+  private final long secondDiscs;
+  private final long nanos;
+
+  /**
+   * Creates the outcome of a tournament.
+   *
+   * @param wins        the number of games the first strategy won.
+   * @param losses      the number of games the first strategy lost.
+   * @param draws       the number of games drawn.
+   * @param firstDiscs  the total discs the first strategy finished its games with.
+   * @param secondDiscs the total discs the second strategy finished its games with.
+   * @param nanos       how long the tournament took, in nanoseconds.
+   */
+  public TournamentResult(long wins, long losses, long draws, long firstDiscs, long secondDiscs,
+                          long nanos) {
+    this.wins = wins;
+    this.losses = losses;
+    this.draws = draws;
+    this.firstDiscs = firstDiscs;
+    this.secondDiscs = secondDiscs;
+    this.nanos = nanos;
+  }
+
+  /**
+   * Gets the number of games the first strategy won.
+   *
+   * @return the number of wins.
+   */
+  public long getWins() {
+    return this.wins;
+  }
+
+  /**
+   * Gets the number of games the first strategy lost.
+   *
+   * @return the number of losses.
+   */
+  public long getLosses() {
+    return this.losses;
+  }
+
+  /**
+   * Gets the number of games that ended with both strategies holding as many discs.
+   *
+   * @return the number of draws.
+   */
+  public long getDraws() {
+    return this.draws;
+  }
+
+  /**
+   * Gets the number of games played.
+   *
+   * @return the number of games.
+   */
+  public long getGames() {
+    return this.wins + this.losses + this.draws;
+  }
+
+  /**
+   * Gets the average number of discs the first strategy finished a game with.
+   *
+   * @return the average score, or 0 if no games were played.
+   */
+  public double getAverageFirstScore() {
+    return getGames() == 0 ? 0 : (double) this.firstDiscs / getGames();
+  }
+
+  /**
+   * Gets the average number of discs the second strategy finished a game with.
+   *
+   * @return the average score, or 0 if no games were played.
+   */
+  public double getAverageSecondScore() {
+    return getGames() == 0 ? 0 : (double) this.secondDiscs / getGames();
+  }
+
+  /**
+   * Gets how many games were played per second.
+   *
+   * @return the rate of play.
+   */
+  public double getGamesPerSecond() {
+    return getGames() * 1e9 / Math.max(this.nanos, 1);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d games: %d wins, %d losses, %d draws for the first strategy; "
+                    + "average score %.2f to %.2f; %.1f games/s",
+            getGames(), this.wins, this.losses, this.draws, getAverageFirstScore(),
+            getAverageSecondScore(), getGamesPerSecond());
+  }
+}
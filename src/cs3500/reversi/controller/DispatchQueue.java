@@ -0,0 +1,71 @@
+package cs3500.reversi.controller;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Represents a queue of events that runs them one after another rather than one inside another.
+ * An event dispatched while no event is running runs at once, and keeps running the queue until
+ * it is empty; an event dispatched while another is running (say, by a listener the running
+ * event notified) is put at the back of the queue and runs after it. However many events lead to
+ * more events, the stack never holds more than one of them.
+ *
+ * <p>Controllers of the same game should share one queue, so that their events run in the order
+ * the model sent them. Events may be dispatched from any thread; they run on whichever thread
+ * found the queue idle.
+ */
+public final class DispatchQueue {
+  private final Deque<Runnable> events = new ArrayDeque<>();
+  private boolean running; // if some thread is running the queue's events
+
+  /**
+   * Runs the given event now if no event is running, or else once the events before it have run.
+   *
+   * @param event the event to run.
+   * @throws RuntimeException whatever an event run by this call throws, after which the events
+   *                          still waiting are dropped.
+   */
+  public void dispatch(Runnable event) {
+    synchronized (this.events) {
+      this.events.add(event);
+      if (this.running) {
+        return; // whoever is running the queue will get to it
+      }
+      this.running = true;
+    }
+    boolean finished = false;
+    try {
+      while (true) {
+        Runnable next;
+        synchronized (this.events) {
+          next = this.events.poll();
+          if (next == null) {
+            this.running = false;
+            finished = true;
+            return;
+          }
+        }
+        next.run();
+      }
+    } finally {
+      if (!finished) {
+        // an event failed, so the ones after it would only run against a game it left behind
+        synchronized (this.events) {
+          this.events.clear();
+          this.running = false;
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets the number of events waiting to run.
+   *
+   * @return the number of events.
+   */
+  public int size() {
+    synchronized (this.events) {
+      return this.events.size();
+    }
+  }
+}
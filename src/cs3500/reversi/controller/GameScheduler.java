@@ -0,0 +1,139 @@
+package cs3500.reversi.controller;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.player.Player;
+
+/**
+ * Hosts any number of games at once in one program, each on its own thread (see Match). Where
+ * the Java runtime has virtual threads (Java 21 and later), every match gets one, so tens of
+ * thousands of matches cost little more than their models, and a match waiting on a human holds
+ * no operating system thread. On older runtimes, every match gets a daemon platform thread with
+ * a small stack instead, which is fine for hundreds of matches.
+ *
+ * <p>The project is built for Java 11, so virtual threads are found by reflection when the
+ * scheduler is created rather than named in the code.
+ */
+public final class GameScheduler implements AutoCloseable {
+  // the stack of a platform match thread. a match's turn loop never recurses, so the only deep
+  // stacks are a strategy's own search.
+  private static final long PLATFORM_STACK_SIZE = 512 * 1024;
+
+  private final ThreadFactory threads;
+  private final boolean virtual;
+  private final Set<Match> active = ConcurrentHashMap.newKeySet();
+  // held while checking closed and adding a match, and while closing, so that no match can be
+  // added after close has cancelled the ones it saw
+  private final Object lock = new Object();
+  private boolean closed;
+
+  /**
+   * Creates a scheduler that runs each match on a virtual thread if the runtime has them, or
+   * else on a platform thread.
+   */
+  public GameScheduler() {
+    ThreadFactory virtualThreads = virtualThreadFactory();
+    this.virtual = virtualThreads != null;
+    this.threads = this.virtual ? virtualThreads : platformThreadFactory();
+  }
+
+  /**
+   * Creates a scheduler that runs each match on a thread from the given factory.
+   *
+   * @param threads makes the thread of every match.
+   */
+  public GameScheduler(ThreadFactory threads) {
+    this.threads = Objects.requireNonNull(threads);
+    this.virtual = false;
+  }
+
+  // Thread.ofVirtual().name("reversi-match-", 0).factory(), if this runtime has it
+  private static ThreadFactory virtualThreadFactory() {
+    try {
+      Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      Class<?> ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      builder = ofVirtual.getMethod("name", String.class, long.class)
+              .invoke(builder, "reversi-match-", 0L);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+              .getMethod("factory").invoke(builder);
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      return null; // no virtual threads before Java 21
+    }
+  }
+
+  private static ThreadFactory platformThreadFactory() {
+    AtomicLong count = new AtomicLong();
+    return task -> {
+      Thread thread = new Thread(null, task, "reversi-match-" + count.getAndIncrement(),
+              PLATFORM_STACK_SIZE);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Starts playing a game between the given players on the given model, on a thread of its own.
+   * The model is started if it has not been already.
+   *
+   * @param model the model to play on, which only the match may use until the game is over.
+   * @param black the player of the black pieces.
+   * @param white the player of the white pieces.
+   * @return the match, to submit human moves to and wait on.
+   * @throws IllegalArgumentException if the players do not play black and white respectively.
+   * @throws IllegalStateException    if the scheduler has been closed, or its thread factory
+   *                                  made no thread.
+   */
+  public Match schedule(ReversiModel model, Player black, Player white)
+          throws IllegalArgumentException, IllegalStateException {
+    Match match = new Match(model, black, white);
+    Thread thread = this.threads.newThread(() -> match.play(() -> this.active.remove(match)));
+    if (thread == null) {
+      throw new IllegalStateException("No thread could be made for the match");
+    }
+    synchronized (this.lock) {
+      if (this.closed) {
+        throw new IllegalStateException("Scheduler is closed");
+      }
+      this.active.add(match);
+    }
+    // a match cancelled by close before its thread starts ends as soon as it does
+    thread.start();
+    return match;
+  }
+
+  /**
+   * Gets the number of matches still being played.
+   *
+   * @return the number of matches.
+   */
+  public int getActiveMatches() {
+    return this.active.size();
+  }
+
+  /**
+   * Determines if this scheduler runs its matches on virtual threads.
+   *
+   * @return true if every match has a virtual thread.
+   */
+  public boolean usesVirtualThreads() {
+    return this.virtual;
+  }
+
+  /**
+   * Cancels every match still being played, and accepts no more.
+   */
+  @Override
+  public void close() {
+    synchronized (this.lock) {
+      this.closed = true;
+      for (Match match : this.active) {
+        match.cancel();
+      }
+    }
+  }
+}
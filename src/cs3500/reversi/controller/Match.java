@@ -0,0 +1,226 @@
+package cs3500.reversi.controller;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import cs3500.reversi.model.GameStatus;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.player.HumanChoice;
+import cs3500.reversi.player.IPlayerMove;
+import cs3500.reversi.player.Player;
+
+/**
+ * Represents one game hosted by a GameScheduler. Unlike ReversiController, which plays each turn
+ * from inside the model's notification of the turn before, a match plays its game in a loop on
+ * its own thread: it asks whoever's turn it is for a move, plays it, and goes around again, so
+ * the thread's stack never grows with the length of the game. When it is a human's turn, the
+ * thread waits for that human's move to be submitted (see submitMove and submitPass), which costs
+ * next to nothing on a virtual thread.
+ *
+ * <p>Only the match's thread ever changes the model, and the model is not thread-safe, so nothing
+ * else should read it until the game is over (see getResult). Its players must not also be
+ * attached to a ReversiController, or their moves would be played twice.
+ */
+public final class Match {
+  private final ReversiModel model;
+  private final Player black;
+  private final Player white;
+  private final BlockingQueue<HumanAction> humanActions = new LinkedBlockingQueue<>();
+  private final CompletableFuture<GameStatus> result = new CompletableFuture<>();
+  private volatile Thread thread; // the thread playing the game, once it has started
+
+  /**
+   * Creates a match of the given players on the given model, which is started when the match is
+   * played if it has not been already.
+   *
+   * @param model the model to play on.
+   * @param black the player of the black pieces.
+   * @param white the player of the white pieces.
+   * @throws IllegalArgumentException if the players do not play black and white respectively.
+   */
+  Match(ReversiModel model, Player black, Player white) throws IllegalArgumentException {
+    this.model = Objects.requireNonNull(model);
+    this.black = Objects.requireNonNull(black);
+    this.white = Objects.requireNonNull(white);
+    if (black.getPiece() != ReversiPiece.BLACK || white.getPiece() != ReversiPiece.WHITE) {
+      throw new IllegalArgumentException("Players must play black and white respectively");
+    }
+  }
+
+  /**
+   * Plays the game to the end on the calling thread, then runs the given action and completes
+   * the result, so that anyone who sees the result complete also sees what the action did. The
+   * result completes however the game ends, even if a player throws an Error, which is then
+   * thrown on from here.
+   *
+   * @param ended what to do once the game is over (or stopped), before the result completes.
+   */
+  void play(Runnable ended) {
+    this.thread = Thread.currentThread();
+    GameStatus status = null;
+    Throwable failure = null;
+    try {
+      if (this.model.getCurrentPlayer() == null) {
+        this.model.startGame();
+      }
+      while (!this.model.isGameOver() && !this.result.isDone()) {
+        ReversiPiece turn = this.model.getCurrentPlayer();
+        IPlayerMove move = (turn == ReversiPiece.BLACK ? this.black : this.white)
+                .getPlayerDecision(this.model);
+        if (move instanceof HumanChoice) {
+          playHumanAction(turn);
+        } else {
+          move.run(this.model);
+        }
+      }
+      status = this.model.getGameStatus();
+    } catch (InterruptedException e) {
+      failure = new CancellationException("Match was cancelled");
+    } catch (RuntimeException e) {
+      failure = e;
+    } catch (Error e) {
+      failure = e;
+      throw e; // after the result settles below, so nobody waits on it forever
+    } finally {
+      ended.run();
+      if (failure != null) {
+        this.result.completeExceptionally(failure);
+      } else {
+        this.result.complete(status); // does nothing if the match was cancelled
+      }
+      // nobody is waiting for a move any more
+      for (HumanAction action = this.humanActions.poll(); action != null;
+           action = this.humanActions.poll()) {
+        action.done.completeExceptionally(new IllegalStateException("Game is over"));
+      }
+    }
+  }
+
+  // waits for the given human's move, telling any other human who tries to move it is not
+  // their turn, and anyone whose move is illegal why
+  private void playHumanAction(ReversiPiece turn) throws InterruptedException {
+    while (true) {
+      HumanAction action = this.humanActions.take();
+      if (action.piece != turn) {
+        action.done.completeExceptionally(
+                new IllegalStateException("It is not " + action.piece + "'s turn"));
+        continue;
+      }
+      try {
+        action.action.run();
+        action.done.complete(null);
+        return;
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        action.done.completeExceptionally(e);
+      }
+    }
+  }
+
+  /**
+   * Submits a human player's move, to be played when it is their turn.
+   *
+   * @param piece the piece of the player moving.
+   * @param q     the q coordinate of the tile to move to.
+   * @param r     the r coordinate of the tile to move to.
+   * @param s     the s coordinate of the tile to move to.
+   * @return completes once the move is played, or exceptionally with the reason it was not.
+   */
+  public CompletableFuture<Void> submitMove(ReversiPiece piece, int q, int r, int s) {
+    return submit(piece, () -> this.model.move(q, r, s));
+  }
+
+  /**
+   * Submits a human player's pass, to be played when it is their turn.
+   *
+   * @param piece the piece of the player passing.
+   * @return completes once the pass is played, or exceptionally with the reason it was not.
+   */
+  public CompletableFuture<Void> submitPass(ReversiPiece piece) {
+    return submit(piece, this.model::pass);
+  }
+
+  private CompletableFuture<Void> submit(ReversiPiece piece, Runnable action) {
+    HumanAction humanAction = new HumanAction(Objects.requireNonNull(piece), action);
+    this.humanActions.add(humanAction);
+    if (this.result.isDone() && this.humanActions.remove(humanAction)) {
+      humanAction.done.completeExceptionally(new IllegalStateException("Game is over"));
+    }
+    return humanAction.done;
+  }
+
+  /**
+   * Gets a listener that submits the actions of the given human player, so a view can be
+   * connected to this match with addPlayerActionListener.
+   *
+   * @param piece the piece of the player whose actions the view emits.
+   * @return the listener.
+   */
+  public PlayerActionFeatures actionsFor(ReversiPiece piece) {
+    Objects.requireNonNull(piece);
+    return new PlayerActionFeatures() {
+      @Override
+      public void handleTileClicked(int xCoord, int rCoord, int sCoord) {
+        // selecting a tile is not a move
+      }
+
+      @Override
+      public void handleMoveChosen(int xCoord, int rCoord, int sCoord) {
+        submitMove(piece, xCoord, rCoord, sCoord);
+      }
+
+      @Override
+      public void handlePassChosen() {
+        submitPass(piece);
+      }
+    };
+  }
+
+  /**
+   * Gets the outcome of the game, which completes when it is over, or exceptionally if it was
+   * cancelled or a player failed.
+   *
+   * @return the status the game ended with.
+   */
+  public CompletableFuture<GameStatus> getResult() {
+    return this.result;
+  }
+
+  /**
+   * Gets the model this match is played on. It is only safe to read once the game is over.
+   *
+   * @return the model.
+   */
+  public ReversiModel getModel() {
+    return this.model;
+  }
+
+  /**
+   * Stops the game where it is. A player that is thinking finishes its move first, but no more
+   * moves are played after it.
+   */
+  public void cancel() {
+    this.result.completeExceptionally(new CancellationException("Match was cancelled"));
+    Thread playing = this.thread;
+    if (playing != null) {
+      playing.interrupt();
+    }
+  }
+
+  /**
+   * A human's move or pass waiting to be played.
+   */
+  private static final class HumanAction {
+    private final ReversiPiece piece;
+    private final Runnable action;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+    HumanAction(ReversiPiece piece, Runnable action) {
+      this.piece = piece;
+      this.action = action;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package cs3500.reversi.controller;
 
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import cs3500.reversi.model.ReversiModel;
 import cs3500.reversi.model.ReversiPiece;
@@ -9,12 +10,18 @@ import cs3500.reversi.view.ReversiView;
 
 /**
  * Represents a controller for a Reversi game.
+ *
+ * <p>By default, a controller handles the model's notifications as they arrive, so when AI
+ * players take their turns, every move is made from inside the notification of the move before,
+ * and a whole game runs as one ever deeper call stack. Given a DispatchQueue, a controller queues
+ * the notifications instead, and each turn is taken after the one before has returned.
  */
 public class ReversiController implements IReversiController, PlayerActionFeatures,
         ModelStatusFeatures {
   private final Player player;
   private final ReversiModel model;
   private final ReversiView view;
+  private final Consumer<Runnable> dispatch; // runs (or queues) the model's notifications
   private boolean isMyTurn = false;
 
   /**
@@ -26,6 +33,27 @@ public class ReversiController implements IReversiController, PlayerActionFeatur
    * @param view   the view this controller is listening to for notifications .
    */
   public ReversiController(ReversiModel model, Player player, ReversiView view) {
+    this(model, player, view, Runnable::run);
+  }
+
+  /**
+   * Creates an instance of a Reversi Controller like the one above, but that queues the model's
+   * notifications on the given queue and handles them once the notifications before have been
+   * handled. Every controller of the model should share the same queue.
+   *
+   * @param model  the model that this controller is listening to for notifications.
+   * @param player the player this controller is for/listening to for notifications.
+   * @param view   the view this controller is listening to for notifications.
+   * @param events the queue the model's notifications are handled in.
+   */
+  public ReversiController(ReversiModel model, Player player, ReversiView view,
+                           DispatchQueue events) {
+    this(model, player, view, Objects.requireNonNull(events)::dispatch);
+  }
+
+  private ReversiController(ReversiModel model, Player player, ReversiView view,
+                            Consumer<Runnable> dispatch) {
+    this.dispatch = dispatch;
     this.player = Objects.requireNonNull(player);
     this.model = Objects.requireNonNull(model);
     this.view = Objects.requireNonNull(view);
@@ -36,6 +64,10 @@ public class ReversiController implements IReversiController, PlayerActionFeatur
 
   @Override
   public void handlePlayerChange(ReversiPiece currPlayer) {
+    this.dispatch.accept(() -> playerChanged(currPlayer));
+  }
+
+  private void playerChanged(ReversiPiece currPlayer) {
     this.isMyTurn = currPlayer == this.player.getPiece();
     this.view.update();
     updateViewTile();
@@ -46,6 +78,10 @@ public class ReversiController implements IReversiController, PlayerActionFeatur
 
   @Override
   public void handleGameOver() {
+    this.dispatch.accept(this::gameOver);
+  }
+
+  private void gameOver() {
     String message = "Game Over! Outcome of game: " + model.getGameStatus();
     if (model.getWinner() == this.player.getPiece()) {
       message += ". Congratulations on Winning!";
@@ -0,0 +1,125 @@
+package cs3500.reversi.model;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents an immutable copy of a Reversi board as it was at one moment of a game. A snapshot
+ * never changes, even as the game it came from goes on, so it can be read freely from any thread.
+ *
+ * <p>Snapshots taken from a ReversiGameModel share the model's board instead of copying it; the
+ * model copies its board only when it next changes a piece, so taking a snapshot costs the same no
+ * matter how big the board is. For that to hold, a snapshot must be taken on the thread that plays
+ * the game; analysis threads should be handed one rather than take their own.
+ */
+public final class BoardSnapshot {
+  private final HexGrid grid;
+  // the piece on every tile, by index in the grid (padding slots are null).
+  // INVARIANT: nothing ever writes to this array once the snapshot exists.
+  private final ReversiPiece[] board;
+  private final int blackCount;
+  private final int whiteCount;
+
+  /**
+   * Creates a snapshot of the given board. The caller must never write to the board afterwards.
+   *
+   * @param grid       the layout of the board.
+   * @param board      the piece on every tile, by index in the grid.
+   * @param blackCount the number of black pieces on the board.
+   * @param whiteCount the number of white pieces on the board.
+   */
+  BoardSnapshot(HexGrid grid, ReversiPiece[] board, int blackCount, int whiteCount) {
+    this.grid = Objects.requireNonNull(grid);
+    this.board = Objects.requireNonNull(board);
+    this.blackCount = blackCount;
+    this.whiteCount = whiteCount;
+  }
+
+  /**
+   * Gets the layout of the board, whose indices getPieceAtIndex takes.
+   *
+   * @return the grid.
+   */
+  public HexGrid getGrid() {
+    return this.grid;
+  }
+
+  /**
+   * Gets the side length of the board.
+   *
+   * @return the side length.
+   */
+  public int getHexSideLength() {
+    return this.grid.getHexSideLength();
+  }
+
+  /**
+   * Returns the piece at the tile of the given coordinates.
+   *
+   * @param q the q coord of the tile.
+   * @param r the r coord of the tile.
+   * @param s the s coord of the tile.
+   * @return the ReversiPiece at the requested position.
+   * @throws IllegalArgumentException if the coordinates are not those of a tile on the board.
+   */
+  public ReversiPiece getPieceAt(int q, int r, int s) throws IllegalArgumentException {
+    if (!this.grid.contains(q, r, s)) {
+      throw new IllegalArgumentException("Accessing a tile out of bounds!");
+    }
+    return this.board[this.grid.indexOf(q, r, s)];
+  }
+
+  /**
+   * Returns the piece at the given tile.
+   *
+   * @param t the tile.
+   * @return the ReversiPiece at the requested position.
+   * @throws IllegalArgumentException if the tile is not on the board.
+   */
+  public ReversiPiece getPieceAt(Tile t) throws IllegalArgumentException {
+    Objects.requireNonNull(t);
+    return getPieceAt(t.getQ(), t.getR(), t.getS());
+  }
+
+  /**
+   * Returns the piece at the tile with the given index in the grid.
+   *
+   * @param index the index of a tile on the board.
+   * @return the ReversiPiece at that tile.
+   */
+  public ReversiPiece getPieceAtIndex(int index) {
+    return this.board[index];
+  }
+
+  /**
+   * Gets the number of tiles holding the given piece.
+   *
+   * @param piece the piece to count.
+   * @return the number of tiles with that piece on them.
+   */
+  public int getScore(ReversiPiece piece) {
+    if (piece == ReversiPiece.BLACK) {
+      return this.blackCount;
+    } else if (piece == ReversiPiece.WHITE) {
+      return this.whiteCount;
+    } else if (piece == ReversiPiece.EMPTY) {
+      return this.grid.getNumCells() - this.blackCount - this.whiteCount;
+    }
+    return 0;
+  }
+
+  /**
+   * Returns this board as a map from each tile to its piece, like a model's getBoard.
+   *
+   * @return a new map of the board.
+   */
+  public Map<Tile, ReversiPiece> toMap() {
+    Map<Tile, ReversiPiece> map = new HashMap<>();
+    for (int i = 0; i < this.grid.getNumCells(); i++) {
+      int index = this.grid.getCell(i);
+      map.put(this.grid.getTile(index), this.board[index]);
+    }
+    return map;
+  }
+}
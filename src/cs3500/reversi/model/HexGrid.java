@@ -0,0 +1,210 @@
+package cs3500.reversi.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the fixed layout of a hexagonal Reversi board of a given side length, where every
+ * tile's cubic coordinates map to a precomputed integer index. Models and players use these indices
+ * to store and look up pieces with plain array arithmetic instead of hashing Tiles.
+ */
+public final class HexGrid {
+  // the cube direction vectors, in the same order that Tile.getNeighbors lists the neighbors.
+  static final int[][] CUBE_DIRECTION_VECTORS = {
+          {+1, 0, -1}, {+1, -1, 0}, {0, -1, +1},
+          {-1, 0, +1}, {-1, +1, 0}, {0, +1, -1}
+  };
+
+  // a grid never changes once built, so every board of the same side length shares one instance.
+  private static final Map<Integer, HexGrid> GRIDS = new ConcurrentHashMap<>();
+
+  // indices lay the board out row by row (one row per r coordinate, one column per q coordinate).
+  // each row gets one extra padding slot past its last column, so a step off the left or right
+  // edge of a row never lands on a real tile of a neighboring row. the s coordinate is implied by
+  // q + r + s = 0, so it needs no slot of its own.
+  // INVARIANT: hexSideLength is greater than or equal to 2
+  private final int hexSideLength;
+  private final int width; // the number of index slots in each row, including the padding slot
+  private final int[] cells; // the index of every tile on the board, in the order q then r
+  // one shared Tile for every tile on the board, by index (padding slots are null). handing these
+  // out instead of building new Tiles keeps models and views from churning through Tile objects.
+  private final Tile[] tiles;
+  private final List<Tile> tileList; // the same tiles, in the order q then r
+
+  /**
+   * Creates the layout for a board of the given side length.
+   *
+   * @param hexSideLength the side length of the board.
+   */
+  private HexGrid(int hexSideLength) {
+    this.hexSideLength = hexSideLength;
+    this.width = 2 * hexSideLength;
+    this.cells = new int[3 * hexSideLength * (hexSideLength - 1) + 1];
+    int next = 0;
+    for (int q = -hexSideLength + 1; q < hexSideLength; q++) {
+      int r1 = Math.max(-hexSideLength + 1, -hexSideLength - q + 1);
+      int r2 = Math.min(hexSideLength - 1, hexSideLength - q - 1);
+      for (int r = r1; r <= r2; r++) {
+        int s = -q - r;
+        // here, the invariant about tile creation is upheld. we index q from -hexSideLength + 1
+        // to hexSideLength - 1, and calculate r and s such that q + r + s = 0. This ensures we
+        // only index tiles where all the coordinates add up to 0 and each coordinate is a valid
+        // cubic coordinate that appears in a hexagon board of the given side length.
+        this.cells[next] = this.indexOf(q, r, s);
+        next += 1;
+      }
+    }
+    this.tiles = new Tile[this.getNumSlots()];
+    Tile[] inOrder = new Tile[this.cells.length];
+    for (int i = 0; i < this.cells.length; i++) {
+      int index = this.cells[i];
+      inOrder[i] = new Tile(this.getQ(index), this.getR(index), this.getS(index));
+      this.tiles[index] = inOrder[i];
+    }
+    this.tileList = List.of(inOrder);
+    // every shared tile's neighbors on the board are shared tiles too.
+    for (Tile tile : inOrder) {
+      List<Tile> neighbors = new ArrayList<>(CUBE_DIRECTION_VECTORS.length);
+      for (int[] direction : CUBE_DIRECTION_VECTORS) {
+        int q = tile.getQ() + direction[0];
+        int r = tile.getR() + direction[1];
+        int s = tile.getS() + direction[2];
+        neighbors.add(this.contains(q, r, s) ? this.tiles[this.indexOf(q, r, s)]
+                : new Tile(q, r, s));
+      }
+      tile.setNeighbors(neighbors);
+    }
+  }
+
+  /**
+   * Returns the shared layout for a board of the given side length.
+   *
+   * @param hexSideLength the side length of the board.
+   * @return the grid for boards of that side length.
+   * @throws IllegalArgumentException if the side length is smaller than 2.
+   */
+  public static HexGrid of(int hexSideLength) throws IllegalArgumentException {
+    if (hexSideLength < 2) {
+      throw new IllegalArgumentException("Cannot play with a board with " +
+              "side length smaller than 2");
+    }
+    return GRIDS.computeIfAbsent(hexSideLength, HexGrid::new);
+  }
+
+  /**
+   * Gets the side length of the boards this grid lays out.
+   *
+   * @return the side length.
+   */
+  public int getHexSideLength() {
+    return this.hexSideLength;
+  }
+
+  /**
+   * Gets the number of tiles on the board.
+   *
+   * @return the number of tiles.
+   */
+  public int getNumCells() {
+    return this.cells.length;
+  }
+
+  /**
+   * Gets the number of index slots an array needs to hold a value for every tile of this grid,
+   * which is larger than the number of tiles since the grid pads every row.
+   *
+   * @return one more than the largest index of any tile.
+   */
+  public int getNumSlots() {
+    return this.width * (2 * this.hexSideLength - 1);
+  }
+
+  /**
+   * Gets the index of the i-th tile of the board, where tiles are ordered by q and then by r.
+   *
+   * @param i a number from 0 (inclusive) to getNumCells() (exclusive).
+   * @return the index of that tile.
+   */
+  public int getCell(int i) {
+    return this.cells[i];
+  }
+
+  /**
+   * Gets the shared Tile for the tile at the given index. Every call with the same index returns
+   * the same Tile.
+   *
+   * @param index the index of a tile.
+   * @return the tile at that index.
+   */
+  public Tile getTile(int index) {
+    return this.tiles[index];
+  }
+
+  /**
+   * Gets the shared Tile for every tile on the board, ordered by q and then by r.
+   *
+   * @return an immutable list of the board's tiles.
+   */
+  public List<Tile> getTiles() {
+    return this.tileList;
+  }
+
+  /**
+   * Determines if the given coordinates are the coordinates of a tile on the board.
+   *
+   * @param q the q coord of the tile.
+   * @param r the r coord of the tile.
+   * @param s the s coord of the tile.
+   * @return true if that tile is on the board.
+   */
+  public boolean contains(int q, int r, int s) {
+    return q + r + s == 0
+            && q < this.hexSideLength && r < this.hexSideLength && s < this.hexSideLength
+            && q > -this.hexSideLength && r > -this.hexSideLength && s > -this.hexSideLength;
+  }
+
+  /**
+   * Gets the index of the tile at the given coordinates. The coordinates must be the coordinates
+   * of a tile on the board, which this method does not check.
+   *
+   * @param q the q coord of the tile.
+   * @param r the r coord of the tile.
+   * @param s the s coord of the tile.
+   * @return the index of the tile.
+   */
+  public int indexOf(int q, int r, int s) {
+    return (r + this.hexSideLength - 1) * this.width + (q + this.hexSideLength - 1);
+  }
+
+  /**
+   * Gets the q coord of the tile at the given index.
+   *
+   * @param index the index of a tile.
+   * @return the q coordinate.
+   */
+  public int getQ(int index) {
+    return index % this.width - this.hexSideLength + 1;
+  }
+
+  /**
+   * Gets the r coord of the tile at the given index.
+   *
+   * @param index the index of a tile.
+   * @return the r coordinate.
+   */
+  public int getR(int index) {
+    return index / this.width - this.hexSideLength + 1;
+  }
+
+  /**
+   * Gets the s coord of the tile at the given index.
+   *
+   * @param index the index of a tile.
+   * @return the s coordinate.
+   */
+  public int getS(int index) {
+    return -this.getQ(index) - this.getR(index);
+  }
+}
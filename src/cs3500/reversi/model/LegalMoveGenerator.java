@@ -0,0 +1,323 @@
+package cs3500.reversi.model;
+
+import java.util.Arrays;
+
+/**
+ * Computes every legal move of a player at once using bitboards: sets of tiles stored as the bits
+ * of a long[], where the bit of a tile is its index in the board's HexGrid. A move is found by
+ * shifting the player's discs across lines of opponent discs in each of the six cube directions,
+ * so the whole board is handled with a few word operations per direction instead of probing every
+ * tile one at a time.
+ *
+ * <p>A generator keeps scratch bitboards between calls, so it is not safe to share one generator
+ * between threads; every model or player that generates moves should own its own generator.
+ */
+public final class LegalMoveGenerator {
+  private final HexGrid grid;
+  private final int numWords; // the number of longs in every bitboard for this grid
+  private final long[] onBoard; // the bitboard of every tile on the board
+  // the index offset of one step in each cube direction. since the grid pads every row, a step
+  // off the side of the board always lands on a padding slot, which onBoard masks away.
+  private final int[] directionOffsets;
+
+  // scratch bitboards, reused between calls so that generating moves never allocates.
+  private final long[] run;
+  private final long[] frontier;
+  private final long[] next;
+  private final long[] result;
+  private final long[] landing;
+  private final long[] scratchOwn;
+  private final long[] scratchOpp;
+
+  /**
+   * Creates a move generator for boards of the given side length.
+   *
+   * @param hexSideLength the side length of the board.
+   * @throws IllegalArgumentException if the side length is smaller than 2.
+   */
+  public LegalMoveGenerator(int hexSideLength) throws IllegalArgumentException {
+    this.grid = HexGrid.of(hexSideLength);
+    this.numWords = (this.grid.getNumSlots() + 63) / 64;
+    this.onBoard = new long[this.numWords];
+    for (int i = 0; i < this.grid.getNumCells(); i++) {
+      set(this.onBoard, this.grid.getCell(i));
+    }
+    this.directionOffsets = new int[HexGrid.CUBE_DIRECTION_VECTORS.length];
+    for (int d = 0; d < HexGrid.CUBE_DIRECTION_VECTORS.length; d++) {
+      int[] direction = HexGrid.CUBE_DIRECTION_VECTORS[d];
+      this.directionOffsets[d] = this.grid.indexOf(direction[0], direction[1], direction[2])
+              - this.grid.indexOf(0, 0, 0);
+    }
+    this.run = new long[this.numWords];
+    this.frontier = new long[this.numWords];
+    this.next = new long[this.numWords];
+    this.result = new long[this.numWords];
+    this.landing = new long[this.numWords];
+    this.scratchOwn = new long[this.numWords];
+    this.scratchOpp = new long[this.numWords];
+  }
+
+  /**
+   * Gets the grid whose tile indices this generator's bitboards use.
+   *
+   * @return the grid.
+   */
+  public HexGrid getGrid() {
+    return this.grid;
+  }
+
+  /**
+   * Gets the number of longs in each bitboard this generator reads and writes.
+   *
+   * @return the length of a bitboard.
+   */
+  public int getNumWords() {
+    return this.numWords;
+  }
+
+  /**
+   * Creates an empty bitboard sized for this generator's grid.
+   *
+   * @return a bitboard with no tiles in it.
+   */
+  public long[] newBitboard() {
+    return new long[this.numWords];
+  }
+
+  /**
+   * Writes the bitboard of every tile on the board into the given bitboard.
+   *
+   * @param out the bitboard to write to.
+   */
+  public void allTiles(long[] out) {
+    System.arraycopy(this.onBoard, 0, out, 0, this.numWords);
+  }
+
+  /**
+   * Writes the tiles the given piece could legally move to into out. A move is legal if the tile
+   * is empty and lies at the end of a straight line of one or more opponent discs whose other end
+   * is one of the player's discs.
+   *
+   * @param own the bitboard of the moving player's discs.
+   * @param opp the bitboard of the opponent's discs.
+   * @param out the bitboard the legal moves are written to.
+   */
+  public void legalMoves(long[] own, long[] opp, long[] out) {
+    for (int i = 0; i < this.numWords; i++) {
+      this.landing[i] = this.onBoard[i] & ~own[i] & ~opp[i];
+    }
+    flankingTiles(own, opp, this.landing, out);
+  }
+
+  /**
+   * Writes into out the tiles the given piece could legally move to in the given model, as if it
+   * were that piece's turn. The board is read through getPieceAt, so this works for any model.
+   *
+   * @param model the model whose board is read.
+   * @param piece the piece of the player that is moving.
+   * @param out   the bitboard the legal moves are written to.
+   * @throws IllegalArgumentException if the model's board is not the size of this generator's.
+   */
+  public void legalMoves(ReadOnlyReversiModel model, ReversiPiece piece, long[] out)
+          throws IllegalArgumentException {
+    if (model.getHexSideLength() != this.grid.getHexSideLength()) {
+      throw new IllegalArgumentException("Model board does not match this generator's board");
+    }
+    Arrays.fill(this.scratchOwn, 0L);
+    Arrays.fill(this.scratchOpp, 0L);
+    for (int i = 0; i < this.grid.getNumCells(); i++) {
+      int index = this.grid.getCell(i);
+      ReversiPiece p = model.getPieceAt(this.grid.getQ(index), this.grid.getR(index),
+              this.grid.getS(index));
+      if (p == piece) {
+        set(this.scratchOwn, index);
+      } else if (p != ReversiPiece.EMPTY) {
+        set(this.scratchOpp, index);
+      }
+    }
+    legalMoves(this.scratchOwn, this.scratchOpp, out);
+  }
+
+  /**
+   * Writes into out every tile of the given landing set that lies at the end of a straight line of
+   * one or more opponent discs whose other end is one of the player's discs. With the empty tiles
+   * as the landing set these are exactly the legal moves.
+   *
+   * @param own         the bitboard of the player's discs.
+   * @param opp         the bitboard of the opponent's discs.
+   * @param landingSet  the bitboard of tiles allowed to be the far end of a line.
+   * @param out         the bitboard the flanking tiles are written to (may be landingSet).
+   */
+  public void flankingTiles(long[] own, long[] opp, long[] landingSet, long[] out) {
+    Arrays.fill(this.result, 0L);
+    for (int offset : this.directionOffsets) {
+      // the discs of a line start next to one of the player's discs...
+      shift(own, offset, this.frontier);
+      boolean any = false;
+      for (int i = 0; i < this.numWords; i++) {
+        this.frontier[i] &= opp[i];
+        this.run[i] = this.frontier[i];
+        any |= this.frontier[i] != 0;
+      }
+      // ...and keep going while the next tile over is another opponent disc.
+      while (any) {
+        shift(this.frontier, offset, this.next);
+        any = false;
+        for (int i = 0; i < this.numWords; i++) {
+          this.frontier[i] = this.next[i] & opp[i] & ~this.run[i];
+          this.run[i] |= this.frontier[i];
+          any |= this.frontier[i] != 0;
+        }
+      }
+      // the tile just past any disc of the line ends it, if it may be landed on.
+      shift(this.run, offset, this.next);
+      for (int i = 0; i < this.numWords; i++) {
+        this.result[i] |= this.next[i] & landingSet[i];
+      }
+    }
+    System.arraycopy(this.result, 0, out, 0, this.numWords);
+  }
+
+  /**
+   * Determines if any tile of the given landing set ends a line of opponent discs that starts at
+   * one of the player's discs (see flankingTiles).
+   *
+   * @param own        the bitboard of the player's discs.
+   * @param opp        the bitboard of the opponent's discs.
+   * @param landingSet the bitboard of tiles allowed to be the far end of a line.
+   * @return true if there is at least one such tile.
+   */
+  public boolean hasFlankingTile(long[] own, long[] opp, long[] landingSet) {
+    flankingTiles(own, opp, landingSet, this.result);
+    return !isEmpty(this.result);
+  }
+
+  /**
+   * Writes into out every tile of the board next to at least one tile of the given bitboard.
+   *
+   * @param tiles the bitboard of tiles whose neighbors to find.
+   * @param out   the bitboard the neighbors are written to (may be tiles).
+   */
+  public void neighbors(long[] tiles, long[] out) {
+    Arrays.fill(this.result, 0L);
+    for (int offset : this.directionOffsets) {
+      shift(tiles, offset, this.next);
+      for (int i = 0; i < this.numWords; i++) {
+        this.result[i] |= this.next[i];
+      }
+    }
+    System.arraycopy(this.result, 0, out, 0, this.numWords);
+  }
+
+  // shifts every bit of src by the given number of indices into dst (which must not be src), and
+  // drops any bit that no longer lands on a tile of the board.
+  private void shift(long[] src, int offset, long[] dst) {
+    int distance = Math.abs(offset);
+    int wordShift = distance >>> 6;
+    int bitShift = distance & 63;
+    if (offset >= 0) {
+      for (int i = this.numWords - 1; i >= 0; i--) {
+        int from = i - wordShift;
+        long word = from >= 0 ? src[from] << bitShift : 0L;
+        if (bitShift != 0 && from - 1 >= 0) {
+          word |= src[from - 1] >>> (64 - bitShift);
+        }
+        dst[i] = word & this.onBoard[i];
+      }
+    } else {
+      for (int i = 0; i < this.numWords; i++) {
+        int from = i + wordShift;
+        long word = from < this.numWords ? src[from] >>> bitShift : 0L;
+        if (bitShift != 0 && from + 1 < this.numWords) {
+          word |= src[from + 1] << (64 - bitShift);
+        }
+        dst[i] = word & this.onBoard[i];
+      }
+    }
+  }
+
+  /**
+   * Adds the tile with the given index to the bitboard.
+   *
+   * @param bitboard the bitboard to add to.
+   * @param index    the index of the tile.
+   */
+  public static void set(long[] bitboard, int index) {
+    bitboard[index >>> 6] |= 1L << index;
+  }
+
+  /**
+   * Removes the tile with the given index from the bitboard.
+   *
+   * @param bitboard the bitboard to remove from.
+   * @param index    the index of the tile.
+   */
+  public static void clear(long[] bitboard, int index) {
+    bitboard[index >>> 6] &= ~(1L << index);
+  }
+
+  /**
+   * Determines if the tile with the given index is in the bitboard.
+   *
+   * @param bitboard the bitboard to check.
+   * @param index    the index of the tile.
+   * @return true if the tile is in the bitboard.
+   */
+  public static boolean isSet(long[] bitboard, int index) {
+    return (bitboard[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * Determines if the bitboard has no tiles in it.
+   *
+   * @param bitboard the bitboard to check.
+   * @return true if no tile is in the bitboard.
+   */
+  public static boolean isEmpty(long[] bitboard) {
+    for (long word : bitboard) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Counts the tiles in the bitboard.
+   *
+   * @param bitboard the bitboard to count.
+   * @return the number of tiles in it.
+   */
+  public static int count(long[] bitboard) {
+    int count = 0;
+    for (long word : bitboard) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Finds the smallest tile index in the bitboard that is at least the given index.
+   *
+   * @param bitboard the bitboard to search.
+   * @param from     the index to start searching from.
+   * @return the index of the next tile in the bitboard, or -1 if there is none.
+   */
+  public static int nextSetBit(long[] bitboard, int from) {
+    int wordIndex = from >>> 6;
+    if (wordIndex >= bitboard.length) {
+      return -1;
+    }
+    long word = bitboard[wordIndex] & (-1L << from);
+    while (true) {
+      if (word != 0) {
+        return wordIndex * 64 + Long.numberOfTrailingZeros(word);
+      }
+      wordIndex += 1;
+      if (wordIndex == bitboard.length) {
+        return -1;
+      }
+      word = bitboard[wordIndex];
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package cs3500.reversi.model;
+
+import java.util.Arrays;
+
+/**
+ * Represents the result of analyzing every legal move of a player in one pass over the board: for
+ * each move, the index of its tile, the number of tiles the model reports it gains (as given by
+ * numTilesGained), and the set of opponent discs it would flip. All of it is stored in primitive
+ * arrays rather than as one object per move.
+ */
+public final class MoveAnalysis {
+  private final HexGrid grid;
+  private final int numWords; // the number of longs in each move's flip mask
+  private int size;
+  private int[] cells;
+  private int[] tilesGained;
+  // the flip masks of every move back to back, numWords longs per move, as bitboards over the
+  // grid's tile indices (see LegalMoveGenerator).
+  private long[] flipMasks;
+  // the model and piece to read the flips from when they are first asked for, or null once the
+  // flip masks are filled in
+  private ReadOnlyReversiModel flipSource;
+  private ReversiPiece flipPiece;
+
+  /**
+   * Creates an empty analysis for a board with the given layout.
+   *
+   * @param grid     the layout of the board that was analyzed.
+   * @param capacity the number of moves to make room for up front.
+   */
+  MoveAnalysis(HexGrid grid, int capacity) {
+    this.grid = grid;
+    this.numWords = (grid.getNumSlots() + 63) / 64;
+    int initial = Math.max(capacity, 1);
+    this.cells = new int[initial];
+    this.tilesGained = new int[initial];
+    this.flipMasks = new long[initial * this.numWords];
+  }
+
+  // adds a move to the tile with the given index that gains the given number of tiles, with no
+  // flipped discs yet.
+  void add(int cell, int gained) {
+    if (this.size == this.cells.length) {
+      int capacity = this.size * 2;
+      this.cells = Arrays.copyOf(this.cells, capacity);
+      this.tilesGained = Arrays.copyOf(this.tilesGained, capacity);
+      this.flipMasks = Arrays.copyOf(this.flipMasks, capacity * this.numWords);
+    }
+    this.cells[this.size] = cell;
+    this.tilesGained[this.size] = gained;
+    this.size += 1;
+  }
+
+  // sets the number of tiles the i-th move gains.
+  void setTilesGained(int i, int gained) {
+    this.tilesGained[i] = gained;
+  }
+
+  // records that the i-th move flips the disc on the tile with the given index.
+  void addFlip(int i, int index) {
+    this.flipMasks[i * this.numWords + (index >>> 6)] |= 1L << index;
+  }
+
+  // records every disc that the i-th move would flip if the given piece played it on the given
+  // board (indexed by tile index): each straight line of discs that are not the piece's, closed off
+  // by one of the piece's discs.
+  void addFlips(int i, ReversiPiece[] board, ReversiPiece piece) {
+    RayTable rays = RayTable.of(this.grid.getHexSideLength());
+    for (int direction = 0; direction < RayTable.NUM_DIRECTIONS; direction++) {
+      int[] ray = rays.getRay(this.cells[i], direction);
+      for (int end = 0; end < ray.length; end++) {
+        ReversiPiece next = board[ray[end]];
+        if (next == null || next == ReversiPiece.EMPTY) {
+          break;
+        } else if (next == piece) {
+          for (int flip = 0; flip < end; flip++) {
+            addFlip(i, ray[flip]);
+          }
+          break;
+        }
+      }
+    }
+  }
+
+  // leaves the flips to be read from the given model, as the given piece would make them, the first
+  // time any are asked for.
+  void flipLater(ReadOnlyReversiModel model, ReversiPiece piece) {
+    this.flipSource = model;
+    this.flipPiece = piece;
+  }
+
+  // fills in the flip masks if they were left for later
+  private void readFlips() {
+    if (this.flipSource == null) {
+      return;
+    }
+    ReversiPiece[] board = new ReversiPiece[this.grid.getNumSlots()];
+    for (int i = 0; i < this.grid.getNumCells(); i++) {
+      int cell = this.grid.getCell(i);
+      board[cell] = this.flipSource.getPieceAt(this.grid.getQ(cell), this.grid.getR(cell),
+              this.grid.getS(cell));
+    }
+    for (int i = 0; i < this.size; i++) {
+      addFlips(i, board, this.flipPiece);
+    }
+    this.flipSource = null;
+    this.flipPiece = null;
+  }
+
+  /**
+   * Gets the layout of the board that was analyzed, whose indices this analysis uses.
+   *
+   * @return the grid.
+   */
+  public HexGrid getGrid() {
+    return this.grid;
+  }
+
+  /**
+   * Gets the number of moves in this analysis.
+   *
+   * @return the number of moves.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Determines if this analysis found no moves at all.
+   *
+   * @return true if there are no moves.
+   */
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Gets the index of the tile the i-th move is made to.
+   *
+   * @param i which move, from 0 (inclusive) to size() (exclusive).
+   * @return the index of the move's tile.
+   */
+  public int getCell(int i) {
+    checkMove(i);
+    return this.cells[i];
+  }
+
+  /**
+   * Gets the q coord of the tile the i-th move is made to.
+   *
+   * @param i which move.
+   * @return the q coordinate.
+   */
+  public int getQ(int i) {
+    return this.grid.getQ(getCell(i));
+  }
+
+  /**
+   * Gets the r coord of the tile the i-th move is made to.
+   *
+   * @param i which move.
+   * @return the r coordinate.
+   */
+  public int getR(int i) {
+    return this.grid.getR(getCell(i));
+  }
+
+  /**
+   * Gets the s coord of the tile the i-th move is made to.
+   *
+   * @param i which move.
+   * @return the s coordinate.
+   */
+  public int getS(int i) {
+    return this.grid.getS(getCell(i));
+  }
+
+  /**
+   * Gets the number of tiles gained by the i-th move, as the model's numTilesGained reports it.
+   *
+   * @param i which move.
+   * @return the number of tiles gained.
+   */
+  public int getTilesGained(int i) {
+    checkMove(i);
+    return this.tilesGained[i];
+  }
+
+  /**
+   * Gets the number of opponent discs the i-th move would flip.
+   *
+   * @param i which move.
+   * @return the number of flipped discs.
+   */
+  public int getNumFlipped(int i) {
+    checkMove(i);
+    readFlips();
+    int count = 0;
+    for (int w = 0; w < this.numWords; w++) {
+      count += Long.bitCount(this.flipMasks[i * this.numWords + w]);
+    }
+    return count;
+  }
+
+  /**
+   * Determines if the i-th move would flip the disc on the tile with the given index.
+   *
+   * @param i     which move.
+   * @param index the index of a tile.
+   * @return true if that tile's disc would be flipped.
+   */
+  public boolean isFlipped(int i, int index) {
+    checkMove(i);
+    readFlips();
+    return (this.flipMasks[i * this.numWords + (index >>> 6)] & (1L << index)) != 0;
+  }
+
+  /**
+   * Copies the bitboard of discs the i-th move would flip into out.
+   *
+   * @param i   which move.
+   * @param out a bitboard with room for every tile index of the grid.
+   */
+  public void getFlipMask(int i, long[] out) {
+    checkMove(i);
+    readFlips();
+    System.arraycopy(this.flipMasks, i * this.numWords, out, 0, this.numWords);
+  }
+
+  /**
+   * Finds the move made to the tile with the given index.
+   *
+   * @param cell the index of a tile.
+   * @return which move is made to that tile, or -1 if none is.
+   */
+  public int indexOfCell(int cell) {
+    for (int i = 0; i < this.size; i++) {
+      if (this.cells[i] == cell) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  // throws if there is no i-th move
+  private void checkMove(int i) {
+    if (i < 0 || i >= this.size) {
+      throw new IndexOutOfBoundsException("No move " + i + " in an analysis of " + this.size);
+    }
+  }
+}
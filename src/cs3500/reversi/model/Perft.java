@@ -0,0 +1,262 @@
+package cs3500.reversi.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts every position reachable from a game's start in some number of plies (perft), where a
+ * ply is a move or a forced pass, and a game that ends before the last ply counts once where it
+ * ends. The counts only depend on the rules, so they check that move generation is right: any
+ * other way of storing the board or finding moves must get the same counts as walking the board
+ * tile by tile does (see countWithModel), and the time taken to count says how fast it is.
+ */
+public final class Perft {
+  private Perft() {
+    // only static methods
+  }
+
+  /**
+   * Counts the positions reachable in the given number of plies from the start of a game on a
+   * board of the given side length.
+   *
+   * @param hexSideLength the side length of the board.
+   * @param depth         the number of plies to play.
+   * @return the number of positions reached.
+   * @throws IllegalArgumentException if the side length is smaller than 2 or the depth is negative.
+   */
+  public static long count(int hexSideLength, int depth) throws IllegalArgumentException {
+    return count(new SearchPosition(hexSideLength), depth);
+  }
+
+  /**
+   * Counts the positions reachable in the given number of plies from the given position, which
+   * is played on and always restored before returning.
+   *
+   * @param position the position to count from.
+   * @param depth    the number of plies to play.
+   * @return the number of positions reached.
+   * @throws IllegalArgumentException if the depth is negative.
+   */
+  public static long count(SearchPosition position, int depth) throws IllegalArgumentException {
+    if (depth < 0) {
+      throw new IllegalArgumentException("Cannot count a negative number of plies");
+    }
+    long[][] movesAtPly = new long[depth + 1][bitboardLength(position)];
+    return count(position, depth, movesAtPly);
+  }
+
+  // the number of longs in a bitboard of the position's board
+  private static int bitboardLength(SearchPosition position) {
+    return (position.getGrid().getNumSlots() + 63) / 64;
+  }
+
+  // counts from the position, generating the moves of each ply into that ply's bitboard
+  private static long count(SearchPosition position, int depth, long[][] movesAtPly) {
+    if (depth == 0 || position.isGameOver()) {
+      return 1;
+    }
+    long[] moves = movesAtPly[depth];
+    position.legalMoves(moves);
+    if (LegalMoveGenerator.isEmpty(moves)) {
+      position.makePass();
+      long leaves = count(position, depth - 1, movesAtPly);
+      position.unmakeMove();
+      return leaves;
+    }
+    long leaves = 0;
+    for (int cell = LegalMoveGenerator.nextSetBit(moves, 0); cell >= 0;
+         cell = LegalMoveGenerator.nextSetBit(moves, cell + 1)) {
+      position.makeMove(cell);
+      leaves += count(position, depth - 1, movesAtPly);
+      position.unmakeMove();
+    }
+    return leaves;
+  }
+
+  /**
+   * Counts the positions reachable in the given number of plies from the start of a game, like
+   * count, but counts below each first move on its own thread.
+   *
+   * @param hexSideLength the side length of the board.
+   * @param depth         the number of plies to play.
+   * @param threads       the number of threads to count on.
+   * @return the number of positions reached.
+   * @throws IllegalArgumentException if the side length is smaller than 2, the depth is
+   *                                  negative, or the number of threads is less than 1.
+   */
+  public static long countParallel(int hexSideLength, int depth, int threads)
+          throws IllegalArgumentException {
+    if (depth < 0) {
+      throw new IllegalArgumentException("Cannot count a negative number of plies");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Cannot count on less than one thread");
+    }
+    SearchPosition root = new SearchPosition(hexSideLength);
+    long[] moves = new long[bitboardLength(root)];
+    root.legalMoves(moves);
+    if (depth == 0 || root.isGameOver() || LegalMoveGenerator.isEmpty(moves)) {
+      return count(root, depth);
+    }
+    List<RootMove> tasks = new ArrayList<>();
+    for (int cell = LegalMoveGenerator.nextSetBit(moves, 0); cell >= 0;
+         cell = LegalMoveGenerator.nextSetBit(moves, cell + 1)) {
+      tasks.add(new RootMove(root, cell, depth - 1));
+    }
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      return pool.invoke(new RecursiveTask<Long>() {
+        @Override
+        protected Long compute() {
+          invokeAll(tasks);
+          long leaves = 0;
+          for (RootMove task : tasks) {
+            leaves += task.join();
+          }
+          return leaves;
+        }
+      });
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Counts the positions below one first move, on a copy of the starting position.
+   */
+  private static final class RootMove extends RecursiveTask<Long> {
+    private static final long serialVersionUID = 1L;
+
+    private final SearchPosition root;
+    private final int cell;
+    private final int depth;
+
+    RootMove(SearchPosition root, int cell, int depth) {
+      this.root = root;
+      this.cell = cell;
+      this.depth = depth;
+    }
+
+    @Override
+    protected Long compute() {
+      SearchPosition position = new SearchPosition(this.root.getGrid().getHexSideLength());
+      position.copyFrom(this.root);
+      position.makeMove(this.cell);
+      return count(position, this.depth);
+    }
+  }
+
+  /**
+   * Counts the positions reachable in the given number of plies from the start of a game without
+   * the LegalMoveGenerator that count (and the model itself) find moves with: a move is legal if
+   * walking the board one tile at a time from it, in some direction, passes over the opponent's
+   * discs and then reaches the mover's own, and the game is over once either player has no legal
+   * move. Since the model cannot take a move back, every position is reached by replaying its
+   * moves on a new model. This is far too slow to count deep, but it is the count every faster
+   * way must match.
+   *
+   * @param hexSideLength the side length of the board.
+   * @param depth         the number of plies to play.
+   * @return the number of positions reached.
+   * @throws IllegalArgumentException if the side length is smaller than 2 or the depth is negative.
+   */
+  public static long countWithModel(int hexSideLength, int depth)
+          throws IllegalArgumentException {
+    if (depth < 0) {
+      throw new IllegalArgumentException("Cannot count a negative number of plies");
+    }
+    return countWithModel(HexGrid.of(hexSideLength), new ArrayList<>(), depth);
+  }
+
+  // counts from the position reached by playing the given tiles from the start
+  private static long countWithModel(HexGrid grid, List<Tile> played, int depth) {
+    ReversiModel model = new ReversiGameModel(grid.getHexSideLength());
+    model.startGame();
+    for (Tile tile : played) {
+      model.move(tile.getQ(), tile.getR(), tile.getS());
+    }
+    ReversiPiece mover = model.getCurrentPlayer();
+    ReversiPiece opponent = mover == ReversiPiece.BLACK ? ReversiPiece.WHITE : ReversiPiece.BLACK;
+    List<Tile> moves = legalByRays(grid, model, mover);
+    if (depth == 0 || moves.isEmpty() || legalByRays(grid, model, opponent).isEmpty()) {
+      return 1;
+    }
+    long leaves = 0;
+    for (Tile tile : moves) {
+      played.add(tile);
+      leaves += countWithModel(grid, played, depth - 1);
+      played.remove(played.size() - 1);
+    }
+    return leaves;
+  }
+
+  // the tiles the given player could move to, found by walking out from every empty tile
+  private static List<Tile> legalByRays(HexGrid grid, ReadOnlyReversiModel model,
+                                        ReversiPiece mover) {
+    List<Tile> moves = new ArrayList<>();
+    for (Tile tile : grid.getTiles()) {
+      if (model.getPieceAt(tile.getQ(), tile.getR(), tile.getS()) != ReversiPiece.EMPTY) {
+        continue;
+      }
+      for (int[] direction : HexGrid.CUBE_DIRECTION_VECTORS) {
+        if (flanks(grid, model, tile, direction, mover)) {
+          moves.add(tile);
+          break;
+        }
+      }
+    }
+    return moves;
+  }
+
+  // whether the tiles past the given one in the given direction are the opponent's discs and
+  // then one of the mover's, with at least one of the opponent's in between
+  private static boolean flanks(HexGrid grid, ReadOnlyReversiModel model, Tile from,
+                                int[] direction, ReversiPiece mover) {
+    int q = from.getQ() + direction[0];
+    int r = from.getR() + direction[1];
+    int s = from.getS() + direction[2];
+    int passed = 0;
+    while (grid.contains(q, r, s)) {
+      ReversiPiece piece = model.getPieceAt(q, r, s);
+      if (piece == ReversiPiece.EMPTY) {
+        return false;
+      }
+      if (piece == mover) {
+        return passed > 0;
+      }
+      passed += 1;
+      q += direction[0];
+      r += direction[1];
+      s += direction[2];
+    }
+    return false;
+  }
+
+  /**
+   * Prints the count for every depth up to the one given, and how many positions per second were
+   * counted, on one thread and then on the given number of threads.
+   *
+   * @param args the side length of the board, the deepest depth to count, and optionally the
+   *             number of threads (by default, one per available processor).
+   */
+  public static void main(String[] args) {
+    int hexSideLength = Integer.parseInt(args[0]);
+    int maxDepth = Integer.parseInt(args[1]);
+    int threads = args.length > 2 ? Integer.parseInt(args[2])
+            : Runtime.getRuntime().availableProcessors();
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      long start = System.nanoTime();
+      long leaves = count(hexSideLength, depth);
+      long single = System.nanoTime() - start;
+      start = System.nanoTime();
+      long parallelLeaves = countParallel(hexSideLength, depth, threads);
+      long parallel = System.nanoTime() - start;
+      System.out.printf("perft(%d) = %d  [%.0f/s on 1 thread, %.0f/s on %d threads]%s%n",
+              depth, leaves, leaves * 1e9 / Math.max(single, 1),
+              parallelLeaves * 1e9 / Math.max(parallel, 1), threads,
+              leaves == parallelLeaves ? "" : "  MISMATCH: " + parallelLeaves);
+    }
+  }
+}
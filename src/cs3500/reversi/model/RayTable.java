@@ -0,0 +1,93 @@
+package cs3500.reversi.model;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the precomputed rays of a hexagonal board of a given side length: for every tile and
+ * each of the six cube directions, the indices of the tiles met when walking from that tile
+ * straight to the edge of the board. Walking a line of pieces is then a scan over an int array,
+ * with no Tiles to create and no bounds to check along the way.
+ */
+public final class RayTable {
+  /**
+   * The number of directions a ray can go in from a tile, one for each of a tile's neighbors.
+   */
+  public static final int NUM_DIRECTIONS = HexGrid.CUBE_DIRECTION_VECTORS.length;
+
+  // a table never changes once built, so every board of the same side length shares one, built
+  // the first time a board of that side length asks for it.
+  private static final Map<Integer, RayTable> TABLES = new ConcurrentHashMap<>();
+
+  private final HexGrid grid;
+  // rays[index][direction] holds the indices of the tiles from (but not including) the tile with
+  // that index out to the edge of the board, nearest first. it is null for padding indices.
+  private final int[][][] rays;
+
+  /**
+   * Builds the rays of every tile for the given grid.
+   *
+   * @param grid the layout of the board.
+   */
+  private RayTable(HexGrid grid) {
+    this.grid = grid;
+    this.rays = new int[grid.getNumSlots()][][];
+    int maxLength = 2 * grid.getHexSideLength() - 2;
+    int[] buffer = new int[maxLength];
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int index = grid.getCell(i);
+      this.rays[index] = new int[NUM_DIRECTIONS][];
+      for (int d = 0; d < NUM_DIRECTIONS; d++) {
+        int[] direction = HexGrid.CUBE_DIRECTION_VECTORS[d];
+        int q = grid.getQ(index) + direction[0];
+        int r = grid.getR(index) + direction[1];
+        int s = grid.getS(index) + direction[2];
+        int length = 0;
+        while (grid.contains(q, r, s)) {
+          buffer[length] = grid.indexOf(q, r, s);
+          length += 1;
+          q += direction[0];
+          r += direction[1];
+          s += direction[2];
+        }
+        this.rays[index][d] = Arrays.copyOf(buffer, length);
+      }
+    }
+  }
+
+  /**
+   * Returns the shared ray table for boards of the given side length, building it if no board of
+   * that size has needed it yet.
+   *
+   * @param hexSideLength the side length of the board.
+   * @return the ray table for boards of that side length.
+   * @throws IllegalArgumentException if the side length is smaller than 2.
+   */
+  public static RayTable of(int hexSideLength) throws IllegalArgumentException {
+    HexGrid grid = HexGrid.of(hexSideLength);
+    return TABLES.computeIfAbsent(hexSideLength, size -> new RayTable(grid));
+  }
+
+  /**
+   * Gets the grid whose tile indices this table's rays hold.
+   *
+   * @return the grid.
+   */
+  public HexGrid getGrid() {
+    return this.grid;
+  }
+
+  /**
+   * Gets the ray from the tile with the given index in the given direction. The returned array is
+   * shared and must not be modified.
+   *
+   * @param index     the index of the tile the ray starts from.
+   * @param direction the direction of the ray, from 0 (inclusive) to NUM_DIRECTIONS (exclusive),
+   *                  in the order Tile.getNeighbors lists a tile's neighbors.
+   * @return the indices of the tiles along the ray, nearest first, not including the start tile.
+   */
+  public int[] getRay(int index, int direction) {
+    return this.rays[index][direction];
+  }
+}
@@ -1,6 +1,7 @@
 package cs3500.reversi.model;
 
 import java.util.Map;
+import java.util.function.IntPredicate;
 
 /**
  * represents a read-only model for a Reversi game,
@@ -106,4 +107,89 @@ public interface ReadOnlyReversiModel {
    */
   Map<Tile, ReversiPiece> getBoard();
 
+  /**
+   * Returns a 64-bit hash of the current position: the board and the player to move. Equal
+   * positions always have equal hashes, however they were reached, and different positions almost
+   * never do (see ZobristKeys). Passes that led up to the position are not part of it.
+   *
+   * <p>By default this hashes the whole board from scratch; models that own their board should
+   * keep the hash up to date as it changes instead.
+   *
+   * @return the hash of the current position.
+   */
+  default long getPositionHash() {
+    return ZobristKeys.of(this.getHexSideLength()).hash(this);
+  }
+
+  /**
+   * Returns an immutable snapshot of this model's board as it is now. The snapshot does not change
+   * as the game goes on.
+   *
+   * <p>By default this reads every tile through getPieceAt; models that own their board should
+   * hand out snapshots that share it instead.
+   *
+   * <p>Like every other method of a model, this must be called on the thread that changes the
+   * model (a snapshot taken from any other thread may see a move half made). Once taken, the
+   * snapshot itself can be handed to and read from any thread.
+   *
+   * @return a snapshot of the current board.
+   */
+  default BoardSnapshot snapshot() {
+    HexGrid grid = HexGrid.of(this.getHexSideLength());
+    ReversiPiece[] board = new ReversiPiece[grid.getNumSlots()];
+    int blackCount = 0;
+    int whiteCount = 0;
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int cell = grid.getCell(i);
+      ReversiPiece piece = this.getPieceAt(grid.getQ(cell), grid.getR(cell), grid.getS(cell));
+      board[cell] = piece;
+      blackCount += piece == ReversiPiece.BLACK ? 1 : 0;
+      whiteCount += piece == ReversiPiece.WHITE ? 1 : 0;
+    }
+    return new BoardSnapshot(grid, board, blackCount, whiteCount);
+  }
+
+  /**
+   * Finds every valid move of the given piece, along with the number of tiles each gains (as
+   * numTilesGained reports it) and the discs each would flip, in one pass over the board.
+   *
+   * @param piece the piece of the player whose moves are analyzed.
+   * @return the analysis of every valid move, in the order q then r.
+   */
+  default MoveAnalysis analyzeMoves(ReversiPiece piece) {
+    return analyzeMoves(piece, cell -> true);
+  }
+
+  /**
+   * Finds every valid move of the given piece to a tile the given filter accepts, along with the
+   * number of tiles each gains (as numTilesGained reports it) and the discs each would flip.
+   * Tiles the filter rejects are never checked at all, so a filter lets a caller skip tiles it
+   * would never move to.
+   *
+   * <p>By default this checks each accepted tile with isValidMove and numTilesGained, so it works
+   * for any model, and only reads the rest of the board (with getPieceAt) the first time the flips
+   * are asked for, so this model must not change before then. Models that can see their own board
+   * should find all the moves at once instead.
+   *
+   * @param piece    the piece of the player whose moves are analyzed.
+   * @param consider accepts the index (in the board's HexGrid) of every tile worth checking.
+   * @return the analysis of every valid move to an accepted tile, in the order q then r.
+   */
+  default MoveAnalysis analyzeMoves(ReversiPiece piece, IntPredicate consider) {
+    HexGrid grid = HexGrid.of(this.getHexSideLength());
+    MoveAnalysis analysis = new MoveAnalysis(grid, 8);
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int cell = grid.getCell(i);
+      int q = grid.getQ(cell);
+      int r = grid.getR(cell);
+      int s = grid.getS(cell);
+      if (consider.test(cell) && this.isValidMove(q, r, s, piece)) {
+        analysis.add(cell, this.numTilesGained(q, r, s, piece));
+      }
+    }
+    // the flips need the whole board, which is only read if someone asks for them.
+    analysis.flipLater(this, piece);
+    return analysis;
+  }
+
 }
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.IntPredicate;
 
 import cs3500.reversi.controller.ModelStatusFeatures;
 
@@ -18,15 +19,50 @@ import cs3500.reversi.controller.ModelStatusFeatures;
  */
 public class ReversiGameModel implements ReversiModel {
 
-  // the actual game board is a map of every coordinated tile to a reversi piece.
-  // we chose this representation for gameBoard as the pieces at a certain position are constantly
-  // changing as the game gets played, so corresponding each tile to a piece makes it simple to both
-  // update the piece at a position, query the tile for what piece its on it, and could be updated
-  // if we have any changes to ReversiPiece.
-  private final Map<Tile, ReversiPiece> gameBoard;
-  // INVARIANT: All tile coordinates (q, r, s) in the gameBoard must be within the allowed range
-  // determined by the hexagonal grid's side length (hexSideLength) and must satisfy the hexagonal
-  // grid constraints.
+  // the actual game board is an array holding the reversi piece on every tile, where each tile's
+  // slot is given by its index in the grid. the pieces at a certain position are constantly
+  // changing as the game gets played and are read on every move, so resolving a tile to its piece
+  // with index arithmetic (rather than hashing a Tile) keeps both updates and queries cheap.
+  private ReversiPiece[] gameBoard;
+  // INVARIANT: only the slots of tiles on the grid hold pieces, and each of those is never null.
+  // all other (padding) slots are null and never read.
+  // snapshots share gameBoard rather than copying it, so once one has been taken the array belongs
+  // to the snapshot, and the next change to the board has to copy it first. this is a plain field,
+  // so snapshot must be called on the thread that changes the board, which then hands the
+  // snapshot to any other thread (its final fields make that safe).
+  private boolean boardShared = false;
+  private final HexGrid grid; // the layout mapping every tile of this board to its index
+  // the same board again as one bitboard per color, kept in step with gameBoard by setPieceAt, so
+  // that the move generator can scan the whole board for moves with a few word operations.
+  private final long[] blackDiscs;
+  private final long[] whiteDiscs;
+  private final LegalMoveGenerator moveGenerator;
+  private final RayTable rays; // every tile's precomputed lines to the edge of the board
+  // the Zobrist hash of the board and the player to move, kept in step by setPieceAt and
+  // switchPlayer (see ZobristKeys).
+  private final ZobristKeys zobrist;
+  private long positionHash = 0L;
+
+  // the number of tiles holding each kind of piece, kept in step with gameBoard by setPieceAt so
+  // that scores and the end of game checks never have to count the board.
+  // INVARIANT: blackCount + whiteCount + emptyCount is the number of tiles on the board.
+  private int blackCount;
+  private int whiteCount;
+  private int emptyCount;
+
+  // what each color can do on the current board, worked out the first time someone asks after the
+  // board changes and reused by isGameOver, isValidMove and the players until the next move puts
+  // down a piece. passing does not change the board, so it keeps these.
+  private final long[] blackMoves; // the tiles black could legally move to
+  private final long[] whiteMoves; // the tiles white could legally move to
+  private boolean blackMovesKnown = false;
+  private boolean whiteMovesKnown = false;
+  // whether each color is out of moves by the end of game rule (see checkNoMoreMovesForOnePlayer)
+  private boolean blackOutOfMoves;
+  private boolean whiteOutOfMoves;
+  private boolean blackOutOfMovesKnown = false;
+  private boolean whiteOutOfMovesKnown = false;
+  private final long[] landingTiles; // scratch bitboard for the move generator
 
   // ex: a board with hexSideLength 2 means there are a total of 7 tiles, one center, and one ring
   // on hexagons around it, forming what looks like a side length of 2 for all 6 sides.
@@ -47,22 +83,34 @@ public class ReversiGameModel implements ReversiModel {
    * hasn't started.
    */
   public ReversiGameModel(int hexSideLength) {
-    // here, the invariant (hexSideLength is greater than or equal to 2) is upheld, since we throw
-    // error if hexSideLength < 2 in createBoard, therefore never instantiating this.hexSideLength
+    // here, the invariant (hexSideLength is greater than or equal to 2) is upheld, since HexGrid
+    // throws an error if hexSideLength < 2, therefore never instantiating this.hexSideLength
     // to something < 2.
-    List<Tile> board = this.createBoard(hexSideLength);
-    this.gameBoard = new HashMap<>();
+    this.grid = HexGrid.of(hexSideLength);
+    this.gameBoard = new ReversiPiece[this.grid.getNumSlots()];
+    this.moveGenerator = new LegalMoveGenerator(hexSideLength);
+    this.rays = RayTable.of(hexSideLength);
+    this.zobrist = ZobristKeys.of(hexSideLength);
+    this.blackDiscs = this.moveGenerator.newBitboard();
+    this.whiteDiscs = this.moveGenerator.newBitboard();
+    this.landingTiles = this.moveGenerator.newBitboard();
+    this.blackMoves = this.moveGenerator.newBitboard();
+    this.whiteMoves = this.moveGenerator.newBitboard();
     this.listeners = new ArrayList<>();
     this.hexSideLength = hexSideLength;
-    for (Tile t : board) {
-      this.gameBoard.put(t, ReversiPiece.EMPTY); // the board starts completely empty
+    for (int i = 0; i < this.grid.getNumCells(); i++) {
+      this.gameBoard[this.grid.getCell(i)] = ReversiPiece.EMPTY; // the board starts empty
     }
+    this.emptyCount = this.grid.getNumCells();
     initStartingPositions(); // this places the players in starting position in the board
   }
 
 
   @Override
   public void startGame() {
+    if (this.currentPlayer == ReversiPiece.WHITE) {
+      this.positionHash ^= this.zobrist.turnKey(); // the hash counts white to move
+    }
     this.currentPlayer = ReversiPiece.BLACK;
     this.gameStatus = GameStatus.PLAYING;
     notifyTurn();
@@ -80,36 +128,63 @@ public class ReversiGameModel implements ReversiModel {
    */
   public ReversiGameModel(Map<Tile, ReversiPiece> boardToPlayOn, int hexSideLength) {
     this.hexSideLength = hexSideLength;
-    Set<Tile> expectedTiles = new HashSet<>(createBoard(hexSideLength));
+    this.grid = HexGrid.of(hexSideLength);
+    Set<Tile> expectedTiles = new HashSet<>(this.grid.getTiles());
     this.listeners = new ArrayList<>();
     if (!expectedTiles.equals((boardToPlayOn.keySet()))) {
       throw new IllegalArgumentException("given a bad board to play on");
     }
-    this.gameBoard = boardToPlayOn;
+    this.gameBoard = new ReversiPiece[this.grid.getNumSlots()];
+    this.moveGenerator = new LegalMoveGenerator(hexSideLength);
+    this.rays = RayTable.of(hexSideLength);
+    this.zobrist = ZobristKeys.of(hexSideLength);
+    this.blackDiscs = this.moveGenerator.newBitboard();
+    this.whiteDiscs = this.moveGenerator.newBitboard();
+    this.landingTiles = this.moveGenerator.newBitboard();
+    this.blackMoves = this.moveGenerator.newBitboard();
+    this.whiteMoves = this.moveGenerator.newBitboard();
+    for (Map.Entry<Tile, ReversiPiece> entry : boardToPlayOn.entrySet()) {
+      setPieceAt(entry.getKey(), entry.getValue());
+    }
   }
 
 
   @Override
   public Map<Tile, ReversiPiece> getBoard() {
     Map<Tile, ReversiPiece> copyBoard = new HashMap<>();
-    for (Tile t : this.gameBoard.keySet()) {
-      copyBoard.put(t, this.gameBoard.get(t));
+    for (int i = 0; i < this.grid.getNumCells(); i++) {
+      int index = this.grid.getCell(i);
+      copyBoard.put(this.grid.getTile(index), this.gameBoard[index]);
     }
     return copyBoard;
   }
 
+  @Override
+  public long getPositionHash() {
+    return this.positionHash;
+  }
+
+  @Override
+  public BoardSnapshot snapshot() {
+    this.boardShared = true;
+    return new BoardSnapshot(this.grid, this.gameBoard, this.blackCount, this.whiteCount);
+  }
+
   @Override
   public ReversiPiece getPieceAt(int q, int r, int s) throws IllegalStateException,
           IllegalArgumentException {
     validateCoordinatesInBoard(q, r, s);
-    return this.gameBoard.get(new Tile(q, r, s));
+    if (q + r + s != 0) {
+      throw new IllegalArgumentException("Bad cube coordinates. q+r+s must equal 0.");
+    }
+    return this.gameBoard[this.grid.indexOf(q, r, s)];
   }
 
   @Override
   public ReversiPiece getPieceAt(Tile t) throws IllegalStateException, IllegalArgumentException {
     Objects.requireNonNull(t);
     validateCoordinatesInBoard(t.getQ(), t.getR(), t.getS());
-    return this.gameBoard.get(t);
+    return this.gameBoard[this.grid.indexOf(t.getQ(), t.getR(), t.getS())];
   }
 
   @Override
@@ -120,15 +195,13 @@ public class ReversiGameModel implements ReversiModel {
   @Override
   public void move(int q, int r, int s) {
     validateConditionsToMove(q, r, s);
-    Tile dest = new Tile(q, r, s);
-    List<Tile> allValidNeighbors = getValidNeighbors(dest); // get all neighbors of dest in board
-    List<Tile> neighborsOccupiedByOtherPlayer = findNeighborsOccupiedByOpponent(allValidNeighbors,
-            this.getCurrentPlayer()); // get all tiles with opponent pieces neighboring the dest
-    if (neighborsOccupiedByOtherPlayer.isEmpty()) {
+    Tile dest = this.grid.getTile(this.grid.indexOf(q, r, s));
+    // there must be a tile with an opponent piece neighboring the dest
+    if (!hasNeighborOccupiedByOpponent(dest, this.getCurrentPlayer())) {
       throw new IllegalStateException("Invalid move, cannot move to given position as it is " +
               "not a legal empty cell");
     }
-    flipTiles(neighborsOccupiedByOtherPlayer, dest);
+    flipTiles(this.grid.indexOf(q, r, s));
     this.consecutivePasses = 0;
     updateStatusIfGameOver();
     switchPlayer();
@@ -175,13 +248,6 @@ public class ReversiGameModel implements ReversiModel {
   @Override
   public ReversiPiece getWinner() {
     if (isGameOver()) {
-      int whiteCount = (int) gameBoard.values().stream()
-              .filter(piece -> piece == ReversiPiece.WHITE)
-              .count();
-      int blackCount = (int) gameBoard.values().stream()
-              .filter(piece -> piece == ReversiPiece.BLACK)
-              .count();
-
       if (whiteCount == blackCount) {
 
         return ReversiPiece.EMPTY; // this means no winner, its a tie
@@ -194,6 +260,12 @@ public class ReversiGameModel implements ReversiModel {
     throw new IllegalStateException("Game is still being played");
   }
 
+  // gets the number of passes in a row that led up to the current turn, so that a SearchPosition
+  // copied from this model knows how close the game is to ending by passes.
+  int getConsecutivePasses() {
+    return this.consecutivePasses;
+  }
+
   private void checkIfGameStarted() {
     if (this.getGameStatus() != GameStatus.PLAYING) {
       throw new IllegalStateException("Game is not in play.");
@@ -212,18 +284,14 @@ public class ReversiGameModel implements ReversiModel {
 
   @Override
   public int getScore(ReversiPiece player) {
-    int score = 0;
-    for (int q = -this.getHexSideLength() + 1; q < this.getHexSideLength(); q++) {
-      int r1 = Math.max(-this.getHexSideLength() + 1, -this.getHexSideLength() - q + 1);
-      int r2 = Math.min(this.getHexSideLength() - 1, this.getHexSideLength() - q - 1);
-      for (int r = r1; r <= r2; r++) {
-        int s = -q - r;
-        if (getPieceAt(q, r, s) == player) {
-          score += 1;
-        }
-      }
+    if (player == ReversiPiece.BLACK) {
+      return this.blackCount;
+    } else if (player == ReversiPiece.WHITE) {
+      return this.whiteCount;
+    } else if (player == ReversiPiece.EMPTY) {
+      return this.emptyCount;
     }
-    return score;
+    return 0;
   }
 
   @Override
@@ -236,206 +304,224 @@ public class ReversiGameModel implements ReversiModel {
       return false;
     }
 
-    Tile dest = new Tile(q, r, s);
-    List<Tile> allValidNeighbors = getValidNeighbors(dest); // get all neighbors of dest in board
-    List<Tile> neighborsOccupiedByOtherPlayer = findNeighborsOccupiedByOpponent(allValidNeighbors,
-            this.getCurrentPlayer());
-    return isLegalMove(neighborsOccupiedByOtherPlayer, dest, piece);
+    if (piece != null && piece == this.getCurrentPlayer()) {
+      return LegalMoveGenerator.isSet(legalMoves(piece), this.grid.indexOf(q, r, s));
+    }
+    return isLegalMove(this.grid.indexOf(q, r, s), this.getCurrentPlayer(), piece);
   }
 
   @Override
   public int numTilesGained(int q, int r, int s, ReversiPiece piece) {
     int numFlipped = 0;
     if (isValidMove(q, r, s, piece)) {
-      Tile dest = new Tile(q, r, s);
-      List<Tile> neighborsOccupiedByOtherPlayer =
-              findNeighborsOccupiedByOpponent(getValidNeighbors(dest),
-                      this.getCurrentPlayer());
-
-      for (Tile opp : neighborsOccupiedByOtherPlayer) {
-        int[] direction = {opp.getQ() - dest.getQ(), opp.getR() - dest.getR(),
-                opp.getS() - dest.getS()};
+      int dest = this.grid.indexOf(q, r, s);
+      for (int direction = 0; direction < RayTable.NUM_DIRECTIONS; direction++) {
+        // the ray holds the neighboring tile first, then every tile past it in the same direction
+        // out to the edge of the board.
+        int[] ray = this.rays.getRay(dest, direction);
+        if (ray.length == 0 || !isOccupiedByOpponent(ray[0], currentPlayer)) {
+          continue;
+        }
         numFlipped += 1;
-        // add the direction vector to find the next tile. the next tile is in the same direction as
-        // the neighboring tile with the opponent is as the neighboring tile with the opponent is
-        // to the destination tile.
-        Tile nextTile = opp.addDirection(direction);
-
-        while (handleCoordinate(nextTile)) {
-          ReversiPiece nextPiece = getPieceAt(nextTile);
+        for (int i = 1; i < ray.length; i++) {
+          ReversiPiece nextPiece = this.gameBoard[ray[i]];
           if (nextPiece == ReversiPiece.EMPTY) {
             numFlipped += 1;
             break;
           } else if (nextPiece != currentPlayer) { // we found the end of the sequence
             numFlipped += 1;
           }
-          nextTile = nextTile.addDirection(direction);
         }
       }
     }
     return numFlipped;
   }
 
+  @Override
+  public MoveAnalysis analyzeMoves(ReversiPiece piece, IntPredicate consider) {
+    if (piece == null || piece != this.getCurrentPlayer()) {
+      // only the current player's moves follow the cached bitboards and numTilesGained's counting
+      return ReversiModel.super.analyzeMoves(piece, consider);
+    }
+    long[] moves = legalMoves(piece);
+    MoveAnalysis analysis = new MoveAnalysis(this.grid, LegalMoveGenerator.count(moves));
+    for (int i = 0; i < this.grid.getNumCells(); i++) {
+      int dest = this.grid.getCell(i);
+      if (!LegalMoveGenerator.isSet(moves, dest) || !consider.test(dest)) {
+        continue;
+      }
+      analysis.add(dest, 0);
+      int move = analysis.size() - 1;
+      int numGained = 0;
+      // one walk down each ray both counts the tiles gained the way numTilesGained does and marks
+      // the discs that the move would actually flip.
+      for (int direction = 0; direction < RayTable.NUM_DIRECTIONS; direction++) {
+        int[] ray = this.rays.getRay(dest, direction);
+        if (ray.length == 0 || !isOccupiedByOpponent(ray[0], piece)) {
+          continue;
+        }
+        numGained += 1;
+        boolean closed = false;
+        for (int end = 1; end < ray.length; end++) {
+          ReversiPiece nextPiece = this.gameBoard[ray[end]];
+          if (nextPiece == ReversiPiece.EMPTY) {
+            numGained += 1;
+            break;
+          } else if (nextPiece != piece) {
+            numGained += 1;
+          } else if (!closed) {
+            closed = true;
+            for (int flip = 0; flip < end; flip++) {
+              analysis.addFlip(move, ray[flip]);
+            }
+          }
+        }
+      }
+      analysis.setTilesGained(move, numGained);
+    }
+    return analysis;
+  }
+
+
+  // helper method that puts the given piece on the given tile, which must be in the board.
+  private void setPieceAt(Tile t, ReversiPiece piece) {
+    setPieceAt(this.grid.indexOf(t.getQ(), t.getR(), t.getS()), piece);
+  }
 
-  // helper method that constructs a valid hexagon board of the given hexSideLength
-  private List<Tile> createBoard(int hexSideLength) throws IllegalArgumentException {
-    if (hexSideLength < 2) {
-      throw new IllegalArgumentException("Cannot play with a board with " +
-              "side length smaller than 2");
+  // helper method that puts the given piece on the tile with the given index.
+  private void setPieceAt(int index, ReversiPiece piece) {
+    if (this.boardShared) {
+      this.gameBoard = this.gameBoard.clone();
+      this.boardShared = false;
     }
-    List<Tile> board = new ArrayList<>();
+    updateCount(this.gameBoard[index], -1);
+    updateCount(piece, 1);
+    this.positionHash ^= this.zobrist.pieceKey(index, this.gameBoard[index])
+            ^ this.zobrist.pieceKey(index, piece);
+    this.gameBoard[index] = piece;
+    this.blackMovesKnown = false;
+    this.whiteMovesKnown = false;
+    this.blackOutOfMovesKnown = false;
+    this.whiteOutOfMovesKnown = false;
+    LegalMoveGenerator.clear(this.blackDiscs, index);
+    LegalMoveGenerator.clear(this.whiteDiscs, index);
+    if (piece == ReversiPiece.BLACK) {
+      LegalMoveGenerator.set(this.blackDiscs, index);
+    } else if (piece == ReversiPiece.WHITE) {
+      LegalMoveGenerator.set(this.whiteDiscs, index);
+    }
+  }
 
-    for (int q = -hexSideLength + 1; q < hexSideLength; q++) {
-      int r1 = Math.max(-hexSideLength + 1, -hexSideLength - q + 1);
-      int r2 = Math.min(hexSideLength - 1, hexSideLength - q - 1);
-      for (int r = r1; r <= r2; r++) {
-        int s = -q - r;
-        // here, the invariant about tile creation is upheld. we index q from -hexSideLength + 1
-        // to hexSideLength - 1, and calculate r and s such that q + r + s = 0. This ensures we
-        // always only create Tiles for our board where all the coordinates add up to 0 and each
-        // coordinate is a valid cubic coordinate that appears in the cubic coordinate system of
-        // a hexagon board of sideLength given.
-        board.add(new Tile(q, r, s));
-      }
+  // helper method that adds the given amount to the count of tiles holding the given piece.
+  private void updateCount(ReversiPiece piece, int amount) {
+    if (piece == ReversiPiece.BLACK) {
+      this.blackCount += amount;
+    } else if (piece == ReversiPiece.WHITE) {
+      this.whiteCount += amount;
+    } else if (piece == ReversiPiece.EMPTY) {
+      this.emptyCount += amount;
     }
-    return board;
   }
 
   // helper method that throws the given coordinates are for a tile outside of the game board,
-  // otherwise returns true, meaning the coordinates are for a tile in the game board.
+  // otherwise returns true, meaning the coordinates are for a tile in the game board. only the
+  // public methods check coordinates this way; everything internal uses isInBoard instead.
   private boolean validateCoordinatesInBoard(int q, int r, int s) {
-    if (q >= this.hexSideLength || r >= this.hexSideLength || s >= this.hexSideLength
-            || q <= -this.hexSideLength || r <= -this.hexSideLength || s <= -this.hexSideLength) {
+    if (!isInBoard(q, r, s)) {
       throw new IllegalArgumentException("Accessing a tile out of bounds!");
     }
     return true;
   }
 
+  // helper method that returns whether the given coordinates are within the range of the game
+  // board, without throwing. the tiles we walk over while checking moves (like the neighbors from
+  // the getNeighbors method in the Tile class) may or may not be in the current board, and finding
+  // that out is routine, not an error.
+  private boolean isInBoard(int q, int r, int s) {
+    return q < this.hexSideLength && r < this.hexSideLength && s < this.hexSideLength
+            && q > -this.hexSideLength && r > -this.hexSideLength && s > -this.hexSideLength;
+  }
+
   // helper method that puts pieces in starting position: places 3 black and 3 white pieces in
   // alternating order in the inner most hexagon.
   private void initStartingPositions() {
-    Tile centerTile = new Tile(0, 0, 0);
+    Tile centerTile = this.grid.getTile(this.grid.indexOf(0, 0, 0));
     List<Tile> neighbors = centerTile.getNeighbors();
     ReversiPiece[] alternatingPieces = {ReversiPiece.BLACK, ReversiPiece.WHITE};
     int alternatingPieceIndex = 0;
     for (Tile neighbor : neighbors) {
-      this.gameBoard.put(neighbor, alternatingPieces[alternatingPieceIndex]);
+      setPieceAt(neighbor, alternatingPieces[alternatingPieceIndex]);
       alternatingPieceIndex = 1 - alternatingPieceIndex; // this flips the init black and white
     }
   }
 
-  private List<Tile> getValidNeighbors(Tile dest) {
-    List<Tile> allValidNeighbors = new ArrayList<>();
-    for (Tile t : dest.getNeighbors()) {
-      if (handleCoordinate(t)) {
-        allValidNeighbors.add(t); // all neighbors of the tile in the board
-      }
-    }
-    return allValidNeighbors;
-  }
-
-  private List<Tile> findNeighborsOccupiedByOpponent(List<Tile> allValidNeighbors,
-                                                     ReversiPiece currPlayer) {
-    List<Tile> neighborsOccupiedByOtherPlayer = new ArrayList<>();
-    for (Tile neighbor : allValidNeighbors) {
-      ReversiPiece neighborPiece = getPieceAt(neighbor);
-      if (neighborPiece != ReversiPiece.EMPTY && neighborPiece != currPlayer) {
-        neighborsOccupiedByOtherPlayer.add(neighbor);
+  // returns true if any neighbor of dest in the board holds a piece that is not currPlayer's
+  private boolean hasNeighborOccupiedByOpponent(Tile dest, ReversiPiece currPlayer) {
+    for (Tile neighbor : dest.getNeighbors()) {
+      if (isInBoard(neighbor.getQ(), neighbor.getR(), neighbor.getS())
+              && isOccupiedByOpponent(this.grid.indexOf(neighbor.getQ(), neighbor.getR(),
+              neighbor.getS()), currPlayer)) {
+        return true;
       }
     }
-    return neighborsOccupiedByOtherPlayer;
+    return false;
   }
 
   // helper method that processes the sequence of tiles to validly move from the dest tile to a
   // currentPlayer's piece, and flips them at the end if valid.
-  private void flipTiles(List<Tile> neighborsOccupiedByOtherPlayer, Tile dest) {
-    if (!isLegalMove(neighborsOccupiedByOtherPlayer, dest, this.getCurrentPlayer())) {
+  private void flipTiles(int dest) {
+    if (!isLegalMove(dest, this.getCurrentPlayer(), this.getCurrentPlayer())) {
       throw new IllegalStateException("Cannot make this move");
     }
-    for (Tile opp : neighborsOccupiedByOtherPlayer) {
-      int[] direction = {opp.getQ() - dest.getQ(), opp.getR() - dest.getR(),
-              opp.getS() - dest.getS()};
-      ArrayList<Tile> toBeFlipped = new ArrayList<>();
-      toBeFlipped.add(opp);
-      // add the direction vector to find the next tile. the next tile is in the same direction as
-      // the neighboring tile with the opponent is as the neighboring tile with the opponent is
-      // to the destination tile.
-      Tile nextTile = opp.addDirection(direction);
-
-      while (handleCoordinate(nextTile)) {
-        if (!processNextTile(nextTile, dest, toBeFlipped)) { // we found the end of the sequence
+    for (int direction = 0; direction < RayTable.NUM_DIRECTIONS; direction++) {
+      int[] ray = this.rays.getRay(dest, direction);
+      if (ray.length == 0 || !isOccupiedByOpponent(ray[0], currentPlayer)) {
+        continue;
+      }
+      // the opponent tiles in the sequence are ray[0] up to (but not including) ray[end]
+      for (int end = 1; end < ray.length; end++) {
+        ReversiPiece nextPiece = this.gameBoard[ray[end]];
+        if (nextPiece == ReversiPiece.EMPTY) {
           break;
+        } else if (nextPiece == currentPlayer) {
+          flipTilesInSequence(ray, end);
+          setPieceAt(dest, currentPlayer); // put down the final tile in the sequence, move is made
+          break; // no more tiles to process
         }
-        nextTile = nextTile.addDirection(direction);
       }
     }
   }
 
-
-  // processNextTile is called on nextTile, which is the tile moving from the dest tile to the
-  private boolean processNextTile(Tile nextTile, Tile dest, ArrayList<Tile> toBeFlipped) {
-    ReversiPiece nextPiece = getPieceAt(nextTile);
-
-    if (nextPiece == ReversiPiece.EMPTY) {
-      return false;
-    } else if (nextPiece != currentPlayer) {
-      // opponent tile in sequence, add it to be flipped
-      toBeFlipped.add(nextTile);
-      return handleCoordinate(nextTile);
-    } else {
-      flipTilesInSequence(toBeFlipped);
-      gameBoard.put(dest, currentPlayer); // put down the final tile in the sequence, move is made
-      return false; // no more tiles to process
-    }
-  }
-
-  private void flipTilesInSequence(ArrayList<Tile> toBeFlipped) {
-    for (Tile tile : toBeFlipped) {
-      ReversiPiece flip = getPieceAt(tile);
+  // flips the pieces on the first count tiles of the given ray
+  private void flipTilesInSequence(int[] ray, int count) {
+    for (int i = 0; i < count; i++) {
+      ReversiPiece flip = this.gameBoard[ray[i]];
       flip = (flip == ReversiPiece.BLACK) ? ReversiPiece.WHITE : ReversiPiece.BLACK;
-      gameBoard.put(tile, flip); // flip them!
+      setPieceAt(ray[i], flip); // flip them!
     }
   }
 
-
-  // handles the exception thrown by validateCoordinatesInBoard, since we use the
-  // getNeighbors method in the Tile class, where all 6 neighbors of a tile may or may not be in the
-  // current board being played
-  private boolean handleCoordinate(Tile someTile) {
-    boolean valid = false;
-    try {
-      valid = validateCoordinatesInBoard(someTile.getQ(), someTile.getR(), someTile.getS());
-    } catch (IllegalArgumentException e) {
-      // do nothing!
-    }
-    return valid;
+  // returns true if the tile with the given index holds a piece that is not the given player's
+  private boolean isOccupiedByOpponent(int index, ReversiPiece player) {
+    ReversiPiece piece = this.gameBoard[index];
+    return piece != ReversiPiece.EMPTY && piece != player;
   }
 
-  // returns true if the move to the destination tile is legal, false if not.
-  private boolean isLegalMove(List<Tile> neighborsOccupiedByOtherPlayer, Tile dest,
-                              ReversiPiece playerToMove) {
-    for (int i = 0; i < neighborsOccupiedByOtherPlayer.size(); i++) {
-      Tile opp = neighborsOccupiedByOtherPlayer.get(i);
-      // find the direction vector from the opponent's piece respective to the dest tile.
-      int[] direction = {opp.getQ() - dest.getQ(), opp.getR() - dest.getR(),
-              opp.getS() - dest.getS()};
-
-      // get the tile that is in the same direction from the opponent's piece as the opponent's
-      // piece is to the dest tile.
-      Tile nextTile = opp.addDirection(direction);
-
-      while (handleCoordinate(nextTile)) {
-        ReversiPiece nextPiece = getPieceAt(nextTile);
 
+  // returns true if the move to the destination tile is legal, false if not. a line counts when
+  // the tile next to dest holds a piece that is not neighborOwner's, and the pieces past it that
+  // are not playerToMove's end in one of playerToMove's pieces.
+  private boolean isLegalMove(int dest, ReversiPiece neighborOwner, ReversiPiece playerToMove) {
+    for (int direction = 0; direction < RayTable.NUM_DIRECTIONS; direction++) {
+      int[] ray = this.rays.getRay(dest, direction);
+      if (ray.length == 0 || !isOccupiedByOpponent(ray[0], neighborOwner)) {
+        continue;
+      }
+      for (int i = 1; i < ray.length; i++) {
+        ReversiPiece nextPiece = this.gameBoard[ray[i]];
         if (nextPiece == ReversiPiece.EMPTY) {
-          if (i == neighborsOccupiedByOtherPlayer.size() - 1) {
-            return false; // no valid option in neighbors
-          } else {
-            break;
-          }
-        } else if (nextPiece != playerToMove) {
-          nextTile = nextTile.addDirection(direction);
-        } else {
+          break;
+        } else if (nextPiece == playerToMove) {
           return true; // valid sequence, so legal move
         }
       }
@@ -447,46 +533,57 @@ public class ReversiGameModel implements ReversiModel {
   private void switchPlayer() {
     this.currentPlayer = this.currentPlayer == ReversiPiece.BLACK ?
             ReversiPiece.WHITE : ReversiPiece.BLACK;
+    this.positionHash ^= this.zobrist.turnKey();
     notifyTurn();
   }
 
 
-  // helper that returns true if there is a legal move that could be made by the playerToCheck
-  // on the board
+  // helper that returns true if there is no more legal move that could be made by the
+  // playerToCheck on the board. a tile counts as a move if it is empty or holds one of
+  // playerToCheck's pieces, and ends a line of opponent pieces closed off by another of
+  // playerToCheck's pieces. the move generator finds these for the whole board at once.
   private boolean checkNoMoreMovesForOnePlayer(ReversiPiece playerToCheck) {
-    for (int q = -hexSideLength + 1; q < hexSideLength; q++) {
-      int r1 = Math.max(-hexSideLength + 1, -hexSideLength - q + 1);
-      int r2 = Math.min(hexSideLength - 1, hexSideLength - q - 1);
-      for (int r = r1; r <= r2; r++) {
-        int s = -q - r;
-        Tile tile = new Tile(q, r, s);
-        ReversiPiece currentPiece = getPieceAt(tile);
-        if (currentPiece == playerToCheck || currentPiece == ReversiPiece.EMPTY) {
-          List<Tile> opponentNeighbors =
-                  findNeighborsOccupiedByOpponent(getValidNeighbors(tile), playerToCheck);
-          if (isLegalMove(opponentNeighbors, tile, playerToCheck)) {
-            return false;
-          }
-        }
+    boolean black = playerToCheck == ReversiPiece.BLACK;
+    if (black ? this.blackOutOfMovesKnown : this.whiteOutOfMovesKnown) {
+      return black ? this.blackOutOfMoves : this.whiteOutOfMoves;
+    }
+    long[] own = black ? this.blackDiscs : this.whiteDiscs;
+    long[] opp = black ? this.whiteDiscs : this.blackDiscs;
+    this.moveGenerator.allTiles(this.landingTiles);
+    for (int i = 0; i < this.landingTiles.length; i++) {
+      this.landingTiles[i] &= ~opp[i];
+    }
+    boolean outOfMoves = !this.moveGenerator.hasFlankingTile(own, opp, this.landingTiles);
+    if (black) {
+      this.blackOutOfMoves = outOfMoves;
+      this.blackOutOfMovesKnown = true;
+    } else {
+      this.whiteOutOfMoves = outOfMoves;
+      this.whiteOutOfMovesKnown = true;
+    }
+    return outOfMoves;
+  }
+
+  // helper that returns the bitboard of tiles the given color could legally move to on the current
+  // board, computing it only if the board changed since it was last asked for.
+  private long[] legalMoves(ReversiPiece player) {
+    boolean black = player == ReversiPiece.BLACK;
+    long[] moves = black ? this.blackMoves : this.whiteMoves;
+    if (!(black ? this.blackMovesKnown : this.whiteMovesKnown)) {
+      this.moveGenerator.legalMoves(black ? this.blackDiscs : this.whiteDiscs,
+              black ? this.whiteDiscs : this.blackDiscs, moves);
+      if (black) {
+        this.blackMovesKnown = true;
+      } else {
+        this.whiteMovesKnown = true;
       }
     }
-    return true;
+    return moves;
   }
 
   // helper that returns true if all spaces on the board are filled.
   private boolean spacesFull() {
-    for (int q = -hexSideLength + 1; q < hexSideLength; q++) {
-      int r1 = Math.max(-hexSideLength + 1, -hexSideLength - q + 1);
-      int r2 = Math.min(hexSideLength - 1, hexSideLength - q - 1);
-      for (int r = r1; r <= r2; r++) {
-        int s = -q - r;
-        Tile tile = new Tile(q, r, s);
-        if (gameBoard.get(tile) == ReversiPiece.EMPTY) {
-          return false;
-        }
-      }
-    }
-    return true;
+    return this.emptyCount == 0;
   }
 
   // called after every move/pass. checks if the game is over, and updates the game status
@@ -0,0 +1,429 @@
+package cs3500.reversi.model;
+
+import java.util.Arrays;
+
+/**
+ * Represents a Reversi position that a look-ahead player can play moves on and take them back
+ * again, without building a new model for every position it looks at. Moves follow the same rules
+ * as ReversiGameModel (including when the game ends), but the board is kept only as one bitboard
+ * per color (see LegalMoveGenerator), and every move records the discs it flipped on an undo stack
+ * that is allocated up front and reused, so that playing and taking back a move allocates nothing.
+ *
+ * <p>A position owns scratch space for generating moves, so it is not safe to share one between
+ * threads; every searching thread should work on its own copy (see copyFrom).
+ */
+public final class SearchPosition {
+  private final HexGrid grid;
+  private final RayTable rays;
+  private final LegalMoveGenerator moveGenerator;
+  private final ZobristKeys zobrist;
+  private final long[] blackDiscs;
+  private final long[] whiteDiscs;
+  private final long[] landingTiles; // scratch bitboard for the end of game check
+  private int blackCount;
+  private int whiteCount;
+  private ReversiPiece currentPlayer;
+  // INVARIANT: consecutivePasses is between 0 and 2 (inclusive), as in the model.
+  private int consecutivePasses;
+  // the Zobrist hash of this position, equal to the model's getPositionHash for the same position
+  private long hash;
+
+  // the undo stack. every move or pass made pushes one frame, and unmake pops the latest one.
+  // a frame records the tile moved to (or PASS), the number of consecutive passes and the hash
+  // before it, and where its flipped tiles start on flipStack, which holds the flipped tiles of
+  // every frame in order. the arrays only grow if a line of play runs deeper than any before it.
+  private int[] frameMove;
+  private int[] framePasses;
+  private long[] frameHash;
+  private int[] frameFlipStart;
+  private int numFrames;
+  private int[] flipStack;
+  private int numFlips;
+
+  /**
+   * The tile recorded on the undo stack for a pass.
+   */
+  public static final int PASS = -1;
+
+  /**
+   * Creates a position at the start of a game of the given side length, with black to move.
+   *
+   * @param hexSideLength the side length of the board.
+   * @throws IllegalArgumentException if the side length is smaller than 2.
+   */
+  public SearchPosition(int hexSideLength) throws IllegalArgumentException {
+    this.grid = HexGrid.of(hexSideLength);
+    this.rays = RayTable.of(hexSideLength);
+    this.moveGenerator = new LegalMoveGenerator(hexSideLength);
+    this.zobrist = ZobristKeys.of(hexSideLength);
+    this.blackDiscs = this.moveGenerator.newBitboard();
+    this.whiteDiscs = this.moveGenerator.newBitboard();
+    this.landingTiles = this.moveGenerator.newBitboard();
+    int capacity = this.grid.getNumCells() + 8;
+    this.frameMove = new int[capacity];
+    this.framePasses = new int[capacity];
+    this.frameHash = new long[capacity];
+    this.frameFlipStart = new int[capacity];
+    this.flipStack = new int[capacity * 4];
+    // the starting pieces alternate black and white around the center, as in the model
+    ReversiPiece next = ReversiPiece.BLACK;
+    for (int[] direction : HexGrid.CUBE_DIRECTION_VECTORS) {
+      put(this.grid.indexOf(direction[0], direction[1], direction[2]), next);
+      next = next == ReversiPiece.BLACK ? ReversiPiece.WHITE : ReversiPiece.BLACK;
+    }
+    this.currentPlayer = ReversiPiece.BLACK;
+  }
+
+  /**
+   * Creates a position matching the given model's board and current player.
+   *
+   * @param model the model to copy.
+   * @throws IllegalStateException if the model's game has not started.
+   */
+  public SearchPosition(ReadOnlyReversiModel model) throws IllegalStateException {
+    this(model.getHexSideLength());
+    if (model.getCurrentPlayer() == null) {
+      throw new IllegalStateException("Game is not in play.");
+    }
+    Arrays.fill(this.blackDiscs, 0L);
+    Arrays.fill(this.whiteDiscs, 0L);
+    this.blackCount = 0;
+    this.whiteCount = 0;
+    this.hash = 0L;
+    BoardSnapshot board = model.snapshot();
+    for (int i = 0; i < this.grid.getNumCells(); i++) {
+      int cell = this.grid.getCell(i);
+      put(cell, board.getPieceAtIndex(cell));
+    }
+    this.currentPlayer = model.getCurrentPlayer();
+    if (this.currentPlayer == ReversiPiece.WHITE) {
+      this.hash ^= this.zobrist.turnKey();
+    }
+    if (model instanceof ReversiGameModel) {
+      this.consecutivePasses = ((ReversiGameModel) model).getConsecutivePasses();
+    }
+  }
+
+  /**
+   * Makes this position the same as the given one, including its undo stack, reusing this
+   * position's arrays wherever they are big enough.
+   *
+   * @param other a position on a board of the same side length.
+   * @throws IllegalArgumentException if the other position's board is a different size.
+   */
+  public void copyFrom(SearchPosition other) throws IllegalArgumentException {
+    if (other.grid != this.grid) {
+      throw new IllegalArgumentException("Cannot copy a position on a different board");
+    }
+    System.arraycopy(other.blackDiscs, 0, this.blackDiscs, 0, this.blackDiscs.length);
+    System.arraycopy(other.whiteDiscs, 0, this.whiteDiscs, 0, this.whiteDiscs.length);
+    this.blackCount = other.blackCount;
+    this.whiteCount = other.whiteCount;
+    this.currentPlayer = other.currentPlayer;
+    this.consecutivePasses = other.consecutivePasses;
+    this.hash = other.hash;
+    if (this.frameMove.length < other.numFrames) {
+      growFrames(other.frameMove.length);
+    }
+    System.arraycopy(other.frameMove, 0, this.frameMove, 0, other.numFrames);
+    System.arraycopy(other.framePasses, 0, this.framePasses, 0, other.numFrames);
+    System.arraycopy(other.frameHash, 0, this.frameHash, 0, other.numFrames);
+    System.arraycopy(other.frameFlipStart, 0, this.frameFlipStart, 0, other.numFrames);
+    this.numFrames = other.numFrames;
+    if (this.flipStack.length < other.numFlips) {
+      this.flipStack = Arrays.copyOf(this.flipStack, other.flipStack.length);
+    }
+    System.arraycopy(other.flipStack, 0, this.flipStack, 0, other.numFlips);
+    this.numFlips = other.numFlips;
+  }
+
+  /**
+   * Gets the layout of the board, whose indices this position's moves use.
+   *
+   * @return the grid.
+   */
+  public HexGrid getGrid() {
+    return this.grid;
+  }
+
+  /**
+   * Gets the piece of the player whose turn it is.
+   *
+   * @return the current player's piece.
+   */
+  public ReversiPiece getCurrentPlayer() {
+    return this.currentPlayer;
+  }
+
+  /**
+   * Gets the number of passes in a row that led up to this position.
+   *
+   * @return the number of consecutive passes.
+   */
+  public int getConsecutivePasses() {
+    return this.consecutivePasses;
+  }
+
+  /**
+   * Gets the Zobrist hash of this position, which is the same as the getPositionHash of a model
+   * with the same board and player to move.
+   *
+   * @return the hash of this position.
+   */
+  public long getHash() {
+    return this.hash;
+  }
+
+  /**
+   * Gets the number of moves and passes that can currently be taken back.
+   *
+   * @return the depth of the undo stack.
+   */
+  public int getPly() {
+    return this.numFrames;
+  }
+
+  /**
+   * Gets the piece on the tile with the given index.
+   *
+   * @param index the index of a tile on the board.
+   * @return the piece on that tile.
+   */
+  public ReversiPiece getPieceAt(int index) {
+    if (LegalMoveGenerator.isSet(this.blackDiscs, index)) {
+      return ReversiPiece.BLACK;
+    } else if (LegalMoveGenerator.isSet(this.whiteDiscs, index)) {
+      return ReversiPiece.WHITE;
+    }
+    return ReversiPiece.EMPTY;
+  }
+
+  /**
+   * Gets the number of tiles holding the given piece.
+   *
+   * @param piece the piece to count.
+   * @return the number of tiles with that piece on them.
+   */
+  public int getScore(ReversiPiece piece) {
+    if (piece == ReversiPiece.BLACK) {
+      return this.blackCount;
+    } else if (piece == ReversiPiece.WHITE) {
+      return this.whiteCount;
+    } else if (piece == ReversiPiece.EMPTY) {
+      return this.grid.getNumCells() - this.blackCount - this.whiteCount;
+    }
+    return 0;
+  }
+
+  /**
+   * Copies the bitboard of the given color's discs into out.
+   *
+   * @param piece BLACK or WHITE.
+   * @param out   a bitboard sized for this position's grid.
+   */
+  public void getDiscs(ReversiPiece piece, long[] out) {
+    long[] discs = piece == ReversiPiece.BLACK ? this.blackDiscs : this.whiteDiscs;
+    System.arraycopy(discs, 0, out, 0, discs.length);
+  }
+
+  /**
+   * Writes the tiles the current player could legally move to into out.
+   *
+   * @param out a bitboard sized for this position's grid.
+   */
+  public void legalMoves(long[] out) {
+    boolean black = this.currentPlayer == ReversiPiece.BLACK;
+    this.moveGenerator.legalMoves(black ? this.blackDiscs : this.whiteDiscs,
+            black ? this.whiteDiscs : this.blackDiscs, out);
+  }
+
+  /**
+   * Determines if the game is over in this position, by the same rule as the model's isGameOver:
+   * two passes in a row, a full board, or either color being out of moves (where, as in the
+   * model, a line of opponent discs may also end on one of the player's own discs).
+   *
+   * @return true if the game is over.
+   */
+  public boolean isGameOver() {
+    return this.consecutivePasses >= 2
+            || this.blackCount + this.whiteCount == this.grid.getNumCells()
+            || isOutOfMoves(this.blackDiscs, this.whiteDiscs)
+            || isOutOfMoves(this.whiteDiscs, this.blackDiscs);
+  }
+
+  // true if the player with the own discs has no flanking tile that is empty or their own
+  private boolean isOutOfMoves(long[] own, long[] opp) {
+    this.moveGenerator.allTiles(this.landingTiles);
+    for (int i = 0; i < this.landingTiles.length; i++) {
+      this.landingTiles[i] &= ~opp[i];
+    }
+    return !this.moveGenerator.hasFlankingTile(own, opp, this.landingTiles);
+  }
+
+  /**
+   * Gets the winner in this position: the color with more discs, or EMPTY if it is a tie.
+   *
+   * @return the piece with the most discs on the board.
+   */
+  public ReversiPiece getWinner() {
+    if (this.blackCount == this.whiteCount) {
+      return ReversiPiece.EMPTY;
+    }
+    return this.blackCount > this.whiteCount ? ReversiPiece.BLACK : ReversiPiece.WHITE;
+  }
+
+  /**
+   * Has the current player move to the tile with the given index, flipping every line of opponent
+   * discs it closes off, and passes the turn.
+   *
+   * @param index the index of the tile to move to.
+   * @return the number of discs flipped.
+   * @throws IllegalArgumentException if the index is not a tile of the board, or the move is not
+   *                                  legal for the current player.
+   */
+  public int makeMove(int index) throws IllegalArgumentException {
+    if (index < 0 || index >= this.grid.getNumSlots()
+            || !this.grid.contains(this.grid.getQ(index), this.grid.getR(index),
+            this.grid.getS(index))) {
+      throw new IllegalArgumentException("Index is not a tile of the board.");
+    }
+    if (getPieceAt(index) != ReversiPiece.EMPTY) {
+      throw new IllegalArgumentException("Tile at given index is not empty.");
+    }
+    boolean black = this.currentPlayer == ReversiPiece.BLACK;
+    long[] own = black ? this.blackDiscs : this.whiteDiscs;
+    long[] opp = black ? this.whiteDiscs : this.blackDiscs;
+    int flipStart = this.numFlips;
+    for (int direction = 0; direction < RayTable.NUM_DIRECTIONS; direction++) {
+      int[] ray = this.rays.getRay(index, direction);
+      int end = 0;
+      while (end < ray.length && LegalMoveGenerator.isSet(opp, ray[end])) {
+        end += 1;
+      }
+      if (end > 0 && end < ray.length && LegalMoveGenerator.isSet(own, ray[end])) {
+        for (int i = 0; i < end; i++) {
+          pushFlip(ray[i]);
+        }
+      }
+    }
+    int flipped = this.numFlips - flipStart;
+    if (flipped == 0) {
+      throw new IllegalArgumentException("Cannot make this move");
+    }
+    pushFrame(index, flipStart);
+    ReversiPiece other = black ? ReversiPiece.WHITE : ReversiPiece.BLACK;
+    for (int i = flipStart; i < this.numFlips; i++) {
+      int flip = this.flipStack[i];
+      LegalMoveGenerator.clear(opp, flip);
+      LegalMoveGenerator.set(own, flip);
+      this.hash ^= this.zobrist.pieceKey(flip, other) ^ this.zobrist.pieceKey(flip,
+              this.currentPlayer);
+    }
+    LegalMoveGenerator.set(own, index);
+    this.hash ^= this.zobrist.pieceKey(index, this.currentPlayer);
+    addCount(this.currentPlayer, flipped + 1);
+    addCount(other, -flipped);
+    this.consecutivePasses = 0;
+    switchPlayer();
+    return flipped;
+  }
+
+  /**
+   * Has the current player pass their turn.
+   */
+  public void makePass() {
+    pushFrame(PASS, this.numFlips);
+    this.consecutivePasses += 1;
+    switchPlayer();
+  }
+
+  /**
+   * Takes back the most recent move or pass, restoring this position exactly as it was before it.
+   *
+   * @return the index of the tile that move was made to, or PASS.
+   * @throws IllegalStateException if there is nothing to take back.
+   */
+  public int unmakeMove() throws IllegalStateException {
+    if (this.numFrames == 0) {
+      throw new IllegalStateException("No move to take back");
+    }
+    this.numFrames -= 1;
+    int move = this.frameMove[this.numFrames];
+    this.consecutivePasses = this.framePasses[this.numFrames];
+    this.currentPlayer = this.currentPlayer == ReversiPiece.BLACK ?
+            ReversiPiece.WHITE : ReversiPiece.BLACK;
+    this.hash = this.frameHash[this.numFrames];
+    if (move != PASS) {
+      boolean black = this.currentPlayer == ReversiPiece.BLACK;
+      long[] own = black ? this.blackDiscs : this.whiteDiscs;
+      long[] opp = black ? this.whiteDiscs : this.blackDiscs;
+      int flipStart = this.frameFlipStart[this.numFrames];
+      int flipped = this.numFlips - flipStart;
+      for (int i = flipStart; i < this.numFlips; i++) {
+        LegalMoveGenerator.clear(own, this.flipStack[i]);
+        LegalMoveGenerator.set(opp, this.flipStack[i]);
+      }
+      LegalMoveGenerator.clear(own, move);
+      addCount(this.currentPlayer, -flipped - 1);
+      addCount(black ? ReversiPiece.WHITE : ReversiPiece.BLACK, flipped);
+      this.numFlips = flipStart;
+    }
+    return move;
+  }
+
+  // puts the given piece on the empty tile with the given index, while setting up a position
+  private void put(int index, ReversiPiece piece) {
+    if (piece == ReversiPiece.BLACK) {
+      LegalMoveGenerator.set(this.blackDiscs, index);
+    } else if (piece == ReversiPiece.WHITE) {
+      LegalMoveGenerator.set(this.whiteDiscs, index);
+    }
+    addCount(piece, 1);
+    this.hash ^= this.zobrist.pieceKey(index, piece);
+  }
+
+  // adds the given amount to the count of the given piece (empty tiles are not counted)
+  private void addCount(ReversiPiece piece, int amount) {
+    if (piece == ReversiPiece.BLACK) {
+      this.blackCount += amount;
+    } else if (piece == ReversiPiece.WHITE) {
+      this.whiteCount += amount;
+    }
+  }
+
+  // switches player turns
+  private void switchPlayer() {
+    this.currentPlayer = this.currentPlayer == ReversiPiece.BLACK ?
+            ReversiPiece.WHITE : ReversiPiece.BLACK;
+    this.hash ^= this.zobrist.turnKey();
+  }
+
+  // records a flipped tile on the undo stack
+  private void pushFlip(int index) {
+    if (this.numFlips == this.flipStack.length) {
+      this.flipStack = Arrays.copyOf(this.flipStack, this.flipStack.length * 2);
+    }
+    this.flipStack[this.numFlips] = index;
+    this.numFlips += 1;
+  }
+
+  // records a move or pass on the undo stack, along with the state it changes
+  private void pushFrame(int move, int flipStart) {
+    if (this.numFrames == this.frameMove.length) {
+      growFrames(this.frameMove.length * 2);
+    }
+    this.frameMove[this.numFrames] = move;
+    this.framePasses[this.numFrames] = this.consecutivePasses;
+    this.frameHash[this.numFrames] = this.hash;
+    this.frameFlipStart[this.numFrames] = flipStart;
+    this.numFrames += 1;
+  }
+
+  // makes room for the given number of frames on the undo stack
+  private void growFrames(int capacity) {
+    this.frameMove = Arrays.copyOf(this.frameMove, capacity);
+    this.framePasses = Arrays.copyOf(this.framePasses, capacity);
+    this.frameHash = Arrays.copyOf(this.frameHash, capacity);
+    this.frameFlipStart = Arrays.copyOf(this.frameFlipStart, capacity);
+  }
+}
@@ -1,6 +1,5 @@
 package cs3500.reversi.model;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -26,6 +25,10 @@ public class Tile {
   private final int q;
   private final int r;
   private final int s;
+  private final int hash; // tiles are hashed constantly as map keys, and never change
+  // this tile's neighbors, listed the first time they are asked for and reused after that. the
+  // list is immutable, so sharing it between callers and threads is safe.
+  private List<Tile> neighbors;
 
   /**
    * Constructs a Tile object with the given coordinates.
@@ -42,6 +45,7 @@ public class Tile {
     if (q + r + s != 0) {
       throw new IllegalArgumentException("Bad cube coordinates. q+r+s must equal 0.");
     }
+    this.hash = Objects.hash(q, r, s);
   }
 
   /**
@@ -73,6 +77,9 @@ public class Tile {
 
   @Override
   public boolean equals(Object o) {
+    if (this == o) { // tiles from a HexGrid are shared, so this is the usual case
+      return true;
+    }
     if (!(o instanceof Tile)) {
       return false;
     }
@@ -84,32 +91,32 @@ public class Tile {
 
   @Override
   public int hashCode() {
-    return Objects.hash(q, r, s);
+    return this.hash;
   }
 
   /**
    * Returns all neighboring tiles of this tile.
    *
-   * @return A list of tiles that have the coordinates of one of each of the 6
+   * @return An immutable list of tiles that have the coordinates of one of each of the 6
    *                              neighbors to this tile.
    */
   List<Tile> getNeighbors() {
-    int[][] cubeDirectionVectors = {
-            {+1, 0, -1}, {+1, -1, 0}, {0, -1, +1},
-            {-1, 0, +1}, {-1, +1, 0}, {0, +1, -1}
-    };
-
-    List<Tile> neighbors = new ArrayList<>();
-
-    for (int i = 0; i < cubeDirectionVectors.length; i++) {
-      int[] direction = cubeDirectionVectors[i];
-      int neighborQ = this.q + direction[0];
-      int neighborR = this.r + direction[1];
-      int neighborS = this.s + direction[2];
-      neighbors.add(new Tile(neighborQ, neighborR, neighborS));
+    List<Tile> cached = this.neighbors;
+    if (cached == null) {
+      Tile[] list = new Tile[HexGrid.CUBE_DIRECTION_VECTORS.length];
+      for (int i = 0; i < list.length; i++) {
+        list[i] = this.addDirection(HexGrid.CUBE_DIRECTION_VECTORS[i]);
+      }
+      cached = List.of(list);
+      this.neighbors = cached;
     }
+    return cached;
+  }
 
-    return neighbors;
+  // sets the list of this tile's neighbors, so that a HexGrid can hand its shared tiles lists of
+  // its other shared tiles.
+  void setNeighbors(List<Tile> neighbors) {
+    this.neighbors = List.copyOf(neighbors);
   }
 
 
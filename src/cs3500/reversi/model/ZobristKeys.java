@@ -0,0 +1,110 @@
+package cs3500.reversi.model;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the random keys used to hash Reversi positions on boards of one side length (Zobrist
+ * hashing). Every tile has one key for a black disc and one for a white disc, and one more key
+ * stands for white being the player to move. The hash of a position is the XOR of the keys of
+ * every disc on the board, and of the white-to-move key if it is white's turn, so placing,
+ * flipping, or removing a disc, or changing turns, updates a hash with one or two XORs.
+ *
+ * <p>Keys are drawn from a fixed seed, so the same position hashes the same in every run of the
+ * program. Positions that differ only in how many passes led up to them hash the same.
+ */
+public final class ZobristKeys {
+  private static final long SEED = 0x5EED_0F_4E3A_2B1DL;
+  // keys never change once drawn, so every board of the same side length shares one instance.
+  private static final Map<Integer, ZobristKeys> KEYS = new ConcurrentHashMap<>();
+
+  private final HexGrid grid;
+  private final long[] blackKeys; // by tile index; padding slots are never used
+  private final long[] whiteKeys;
+  private final long whiteToMoveKey;
+
+  /**
+   * Draws the keys for the given grid.
+   *
+   * @param grid the layout of the board.
+   */
+  private ZobristKeys(HexGrid grid) {
+    this.grid = grid;
+    SplittableRandom random = new SplittableRandom(SEED + grid.getHexSideLength());
+    this.blackKeys = new long[grid.getNumSlots()];
+    this.whiteKeys = new long[grid.getNumSlots()];
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int cell = grid.getCell(i);
+      this.blackKeys[cell] = nonZero(random);
+      this.whiteKeys[cell] = nonZero(random);
+    }
+    this.whiteToMoveKey = nonZero(random);
+  }
+
+  // draws a random key other than 0, which would leave a hash unchanged
+  private static long nonZero(SplittableRandom random) {
+    long key = 0;
+    while (key == 0) {
+      key = random.nextLong();
+    }
+    return key;
+  }
+
+  /**
+   * Returns the shared keys for boards of the given side length.
+   *
+   * @param hexSideLength the side length of the board.
+   * @return the keys for boards of that side length.
+   * @throws IllegalArgumentException if the side length is smaller than 2.
+   */
+  public static ZobristKeys of(int hexSideLength) throws IllegalArgumentException {
+    HexGrid grid = HexGrid.of(hexSideLength);
+    return KEYS.computeIfAbsent(hexSideLength, n -> new ZobristKeys(grid));
+  }
+
+  /**
+   * Gets the key of the given piece on the tile with the given index.
+   *
+   * @param index the index of a tile.
+   * @param piece the piece on the tile.
+   * @return the key, or 0 if the piece is EMPTY (or null), since empty tiles add nothing.
+   */
+  public long pieceKey(int index, ReversiPiece piece) {
+    if (piece == ReversiPiece.BLACK) {
+      return this.blackKeys[index];
+    } else if (piece == ReversiPiece.WHITE) {
+      return this.whiteKeys[index];
+    }
+    return 0L;
+  }
+
+  /**
+   * Gets the key XORed into a hash whenever the turn changes hands.
+   *
+   * @return the key for white being the player to move.
+   */
+  public long turnKey() {
+    return this.whiteToMoveKey;
+  }
+
+  /**
+   * Hashes the given model's position from scratch, reading its board through getPieceAt.
+   *
+   * @param model a model on a board of this side length.
+   * @return the hash of the model's board and current player.
+   * @throws IllegalArgumentException if the model's board is a different size.
+   */
+  public long hash(ReadOnlyReversiModel model) throws IllegalArgumentException {
+    if (model.getHexSideLength() != this.grid.getHexSideLength()) {
+      throw new IllegalArgumentException("Model board does not match these keys' board");
+    }
+    long hash = model.getCurrentPlayer() == ReversiPiece.WHITE ? this.whiteToMoveKey : 0L;
+    for (int i = 0; i < this.grid.getNumCells(); i++) {
+      int cell = this.grid.getCell(i);
+      hash ^= pieceKey(cell, model.getPieceAt(this.grid.getQ(cell), this.grid.getR(cell),
+              this.grid.getS(cell)));
+    }
+    return hash;
+  }
+}
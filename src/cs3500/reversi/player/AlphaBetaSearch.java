@@ -0,0 +1,337 @@
+package cs3500.reversi.player;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cs3500.reversi.model.LegalMoveGenerator;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * A depth-limited negamax search with alpha-beta pruning over a SearchPosition. Moves are made and
+ * taken back on the one position, and the legal moves of every ply are generated into bitboards
+ * allocated once per search, so searching a node allocates nothing.
+ *
+ * <p>A search can be given a deadline, after which it stops as soon as it notices, leaving the
+ * position as it found it; the result of a search that was stopped is incomplete and should be
+ * thrown away (see isAborted). A search can likewise be stopped from another thread through a
+ * shared flag.
+ *
+ * <p>A search can also be given a TranspositionTable, which it checks before searching a position
+ * and fills in after: a position already searched deep enough is not searched again, and otherwise
+ * the move that was best last time is tried first.
+ *
+ * <p>A search owns its position and buffers, so it is not safe to share one between threads (the
+ * table, though, can be shared).
+ */
+final class AlphaBetaSearch {
+  // the score of a won game, plus the final disc difference, so that any win outscores any
+  // evaluation and bigger wins outscore smaller ones.
+  static final int WIN_SCORE = 1_000_000;
+  // bigger than any score, and still safe to negate.
+  static final int INFINITY = Integer.MAX_VALUE - 1;
+  // how many nodes to search between looks at the clock, minus one (a power of two minus one).
+  private static final int CLOCK_CHECK_MASK = 1023;
+  // mixed into the hash of a position reached by a pass, since another pass would end the game.
+  private static final long PASSED_KEY = 0x9E37_79B9_7F4A_7C15L;
+
+  private final SearchPosition position;
+  private final PositionEvaluator evaluator;
+  private final TranspositionTable table; // null if the search does not use one
+  private final int numWords; // the length of a move bitboard for the position's grid
+  private final int[] order; // the order tiles are tried in (see MoveOrder)
+  private long[][] movesAtPly; // the legal moves generated at each ply of the current line
+  private long nodes; // the number of positions searched since this search was created
+  private int bestScore; // the score of the best move found by the last searchRoot
+  private boolean timed = false; // whether the search has a deadline at all
+  private long deadline; // the System.nanoTime() after which the search stops
+  private boolean aborted = false; // whether the last searchRoot ran out of time
+  private AtomicBoolean stopSignal; // set by another thread to stop the search, or null
+
+  /**
+   * Creates a search over the given position, which the search plays moves on and always restores
+   * before returning.
+   *
+   * @param position  the position to search from.
+   * @param evaluator scores the positions where the search stops.
+   */
+  AlphaBetaSearch(SearchPosition position, PositionEvaluator evaluator) {
+    this(position, evaluator, null);
+  }
+
+  /**
+   * Creates a search over the given position that remembers what it finds in the given table.
+   *
+   * @param position  the position to search from.
+   * @param evaluator scores the positions where the search stops.
+   * @param table     the table to look positions up in and store them to, or null for none.
+   */
+  AlphaBetaSearch(SearchPosition position, PositionEvaluator evaluator,
+                  TranspositionTable table) {
+    this.position = position;
+    this.evaluator = evaluator;
+    this.table = table;
+    this.numWords = (position.getGrid().getNumSlots() + 63) / 64;
+    this.order = MoveOrder.of(position.getGrid());
+    this.movesAtPly = new long[0][];
+  }
+
+  /**
+   * Searches every legal move of the current player to the given depth.
+   *
+   * @param depth the number of moves (and passes) to look ahead, at least 1.
+   * @return the index of the best move's tile, or -1 if the current player has no legal move.
+   */
+  int searchRoot(int depth) {
+    return searchRoot(depth, -1);
+  }
+
+  /**
+   * Searches every legal move of the current player to the given depth, trying the given move
+   * before any other (usually the best move of a shallower search, which is likely still best).
+   *
+   * @param depth     the number of moves (and passes) to look ahead, at least 1.
+   * @param firstMove the index of the tile to try first, or -1 to use the usual order.
+   * @return the index of the best move's tile, or -1 if the current player has no legal move or
+   *         the search ran out of time.
+   */
+  int searchRoot(int depth, int firstMove) {
+    ensurePlies(depth + 1);
+    this.aborted = false;
+    this.nodes += 1;
+    long[] moves = this.movesAtPly[0];
+    this.position.legalMoves(moves);
+    int bestMove = -1;
+    int alpha = -INFINITY;
+    for (int i = -1; i < this.order.length; i++) {
+      int cell = i == -1 ? firstMove : this.order[i];
+      if (cell == -1 || (i != -1 && cell == firstMove)
+              || !LegalMoveGenerator.isSet(moves, cell)) {
+        continue;
+      }
+      this.position.makeMove(cell);
+      int score = -search(depth - 1, -INFINITY, -alpha, 1);
+      this.position.unmakeMove();
+      if (this.aborted) {
+        return -1;
+      }
+      // only a strictly better score replaces the best move, so ties go to the earliest tile in
+      // search order.
+      if (bestMove == -1 || score > alpha) {
+        bestMove = cell;
+        alpha = score;
+      }
+    }
+    this.bestScore = alpha;
+    return bestMove;
+  }
+
+  /**
+   * Scores one legal move of the current player by searching to the given depth, given that some
+   * other move is already known to score alpha. The score is exact if it is greater than alpha,
+   * and otherwise only known to be at most alpha.
+   *
+   * @param cell  the index of the tile to move to, which must be a legal move.
+   * @param depth the number of moves (and passes) to look ahead, counting this one, at least 1.
+   * @param alpha the best score already found, or -INFINITY if there is none yet.
+   * @return the score of the move for the player making it.
+   */
+  int searchMove(int cell, int depth, int alpha) {
+    ensurePlies(depth + 1);
+    this.aborted = false;
+    this.position.makeMove(cell);
+    int score = -search(depth - 1, -INFINITY, -alpha, 1);
+    this.position.unmakeMove();
+    return score;
+  }
+
+  /**
+   * Has every later search stop once System.nanoTime() passes the given time.
+   *
+   * @param deadline the time to stop at, as given by System.nanoTime().
+   */
+  void setDeadline(long deadline) {
+    this.timed = true;
+    this.deadline = deadline;
+  }
+
+  /**
+   * Lets every later search run to completion however long it takes.
+   */
+  void clearDeadline() {
+    this.timed = false;
+  }
+
+  /**
+   * Has every later search stop soon after the given flag is set, which any thread may do. The
+   * flag is looked at as often as the clock.
+   *
+   * @param stopSignal the flag to watch, or null to stop watching one.
+   */
+  void setStopSignal(AtomicBoolean stopSignal) {
+    this.stopSignal = stopSignal;
+  }
+
+  /**
+   * Determines if the last call to searchRoot was stopped by the deadline before it finished.
+   *
+   * @return true if the last search is incomplete.
+   */
+  boolean isAborted() {
+    return this.aborted;
+  }
+
+  // checks the clock and the stop flag every so many nodes, and notes if either says to stop
+  private boolean outOfTime() {
+    if (!this.aborted && (this.nodes & CLOCK_CHECK_MASK) == 0
+            && ((this.timed && System.nanoTime() - this.deadline >= 0)
+            || (this.stopSignal != null && this.stopSignal.get()))) {
+      this.aborted = true;
+    }
+    return this.aborted;
+  }
+
+  /**
+   * Scores the current position for the current player by searching to the given depth.
+   *
+   * @param depth the number of moves left to look ahead.
+   * @param alpha the score the current player is already guaranteed elsewhere.
+   * @param beta  the score the opponent is already guaranteed elsewhere.
+   * @param ply   how many moves deep into the search this position is.
+   * @return the score of the position, exact if it falls strictly between alpha and beta.
+   */
+  int search(int depth, int alpha, int beta, int ply) {
+    this.nodes += 1;
+    if (outOfTime()) {
+      return 0; // the score is thrown away, so any value will do
+    }
+    if (this.position.isGameOver()) {
+      return terminalScore(this.position);
+    }
+    if (depth <= 0) {
+      return this.evaluator.evaluate(this.position, this.position.getCurrentPlayer());
+    }
+    long key = 0;
+    int tableMove = -1;
+    if (this.table != null) {
+      key = this.position.getConsecutivePasses() > 0
+              ? this.position.getHash() ^ PASSED_KEY : this.position.getHash();
+      long entry = this.table.probe(key);
+      if (entry != TranspositionTable.MISS) {
+        tableMove = TranspositionTable.moveOf(entry);
+        if (TranspositionTable.depthOf(entry) >= depth) {
+          int stored = TranspositionTable.scoreOf(entry);
+          int bound = TranspositionTable.boundOf(entry);
+          if (bound == TranspositionTable.EXACT
+                  || (bound == TranspositionTable.LOWER && stored >= beta)
+                  || (bound == TranspositionTable.UPPER && stored <= alpha)) {
+            return stored;
+          }
+        }
+      }
+    }
+    long[] moves = this.movesAtPly[ply];
+    this.position.legalMoves(moves);
+    if (LegalMoveGenerator.isEmpty(moves)) {
+      // a player with no legal move has to pass, which also counts as a ply of look-ahead
+      this.position.makePass();
+      int score = -search(depth - 1, -beta, -alpha, ply + 1);
+      this.position.unmakeMove();
+      if (this.table != null && !this.aborted) {
+        this.table.store(key, depth, boundOf(score, alpha, beta), score, -1);
+      }
+      return score;
+    }
+    if (tableMove != -1 && !LegalMoveGenerator.isSet(moves, tableMove)) {
+      tableMove = -1; // only a hash collision could get here, but it must not play an illegal move
+    }
+    int alphaBefore = alpha;
+    int best = -INFINITY;
+    int bestMove = -1;
+    for (int i = -1; i < this.order.length; i++) {
+      int cell = i == -1 ? tableMove : this.order[i];
+      if (cell == -1 || (i != -1 && cell == tableMove)
+              || !LegalMoveGenerator.isSet(moves, cell)) {
+        continue;
+      }
+      this.position.makeMove(cell);
+      int score = -search(depth - 1, -beta, -alpha, ply + 1);
+      this.position.unmakeMove();
+      if (this.aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = cell;
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break; // the opponent will never allow this position
+          }
+        }
+      }
+    }
+    if (this.table != null) {
+      this.table.store(key, depth, boundOf(best, alphaBefore, beta), best, bestMove);
+    }
+    return best;
+  }
+
+  // what the score a search returned says about the real score, given the window it searched
+  private static int boundOf(int score, int alpha, int beta) {
+    if (score <= alpha) {
+      return TranspositionTable.UPPER;
+    } else if (score >= beta) {
+      return TranspositionTable.LOWER;
+    }
+    return TranspositionTable.EXACT;
+  }
+
+  /**
+   * Gets the number of positions searched since this search was created.
+   *
+   * @return the node count.
+   */
+  long getNodes() {
+    return this.nodes;
+  }
+
+  /**
+   * Gets the score of the best move found by the last call to searchRoot, for the player who was
+   * to move.
+   *
+   * @return the best score.
+   */
+  int getBestScore() {
+    return this.bestScore;
+  }
+
+  /**
+   * Scores a finished game for the player whose turn it is: a win or loss by the final disc
+   * difference, or 0 for a tie.
+   *
+   * @param position a position where the game is over.
+   * @return the score of the game for the current player.
+   */
+  static int terminalScore(SearchPosition position) {
+    ReversiPiece me = position.getCurrentPlayer();
+    ReversiPiece them = me == ReversiPiece.BLACK ? ReversiPiece.WHITE : ReversiPiece.BLACK;
+    int difference = position.getScore(me) - position.getScore(them);
+    if (difference > 0) {
+      return WIN_SCORE + difference;
+    } else if (difference < 0) {
+      return -WIN_SCORE + difference;
+    }
+    return 0;
+  }
+
+  // makes sure there is a move bitboard for each of the given number of plies
+  private void ensurePlies(int plies) {
+    if (this.movesAtPly.length < plies) {
+      long[][] grown = new long[plies][];
+      for (int i = 0; i < plies; i++) {
+        grown[i] = i < this.movesAtPly.length ? this.movesAtPly[i] : new long[this.numWords];
+      }
+      this.movesAtPly = grown;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package cs3500.reversi.player;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents a strategy that looks a fixed number of moves ahead, assuming the opponent always
+ * answers with their best move, and picks the move that leads to the best position it can force.
+ * The search uses alpha-beta pruning, trying corners first and tiles bordering corners last, and
+ * scores the positions where it stops with a PositionEvaluator. Positions it has already searched
+ * are remembered in a TranspositionTable that lasts from one move to the next.
+ */
+public class AlphaBetaStrategy implements IPlayerMoveStrategy {
+  /**
+   * The number of entries in a strategy's transposition table unless another size is given.
+   */
+  public static final int DEFAULT_TABLE_SIZE = 1 << 16;
+
+  private final int depth;
+  private final PositionEvaluator evaluator;
+  private final TranspositionTable table; // null if the strategy does not use one
+
+  /**
+   * Creates a strategy that searches to the given depth, scoring positions with a
+   * WeightedTileEvaluator.
+   *
+   * @param depth the number of moves (counting both players) to look ahead.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  public AlphaBetaStrategy(int depth) throws IllegalArgumentException {
+    this(depth, new WeightedTileEvaluator());
+  }
+
+  /**
+   * Creates a strategy that searches to the given depth, scoring positions with the given
+   * evaluator.
+   *
+   * @param depth     the number of moves (counting both players) to look ahead.
+   * @param evaluator scores the positions where the search stops.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  public AlphaBetaStrategy(int depth, PositionEvaluator evaluator)
+          throws IllegalArgumentException {
+    this(depth, evaluator, DEFAULT_TABLE_SIZE);
+  }
+
+  /**
+   * Creates a strategy that searches to the given depth, scoring positions with the given
+   * evaluator and remembering them in a transposition table of the given size.
+   *
+   * @param depth     the number of moves (counting both players) to look ahead.
+   * @param evaluator scores the positions where the search stops.
+   * @param tableSize the number of entries in the table, a power of two no more than
+   *                  TranspositionTable.MAX_ENTRIES, or 0 for no table.
+   * @throws IllegalArgumentException if the depth is less than 1, or the table size is neither 0
+   *                                  nor a power of two, or is more than
+   *                                  TranspositionTable.MAX_ENTRIES.
+   */
+  public AlphaBetaStrategy(int depth, PositionEvaluator evaluator, int tableSize)
+          throws IllegalArgumentException {
+    if (depth < 1) {
+      throw new IllegalArgumentException("Cannot search less than one move ahead");
+    }
+    this.depth = depth;
+    this.evaluator = Objects.requireNonNull(evaluator);
+    this.table = tableSize == 0 ? null : new TranspositionTable(tableSize);
+  }
+
+  @Override
+  public Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece) {
+    if (piece == null || piece != model.getCurrentPlayer()) {
+      return Optional.empty(); // there is nothing to search unless it is this player's turn
+    }
+    SearchPosition position = new SearchPosition(model);
+    int best = new AlphaBetaSearch(position, this.evaluator, this.table).searchRoot(this.depth);
+    return toMove(position.getGrid(), best);
+  }
+
+  /**
+   * Gets the table this strategy remembers searched positions in, for instance to see its hit
+   * rate.
+   *
+   * @return the table, or empty if this strategy was created without one.
+   */
+  public Optional<TranspositionTable> getTranspositionTable() {
+    return Optional.ofNullable(this.table);
+  }
+
+  /**
+   * Turns the index of a tile found by a search into a move to that tile.
+   *
+   * @param grid the grid of the searched board.
+   * @param cell the index of the tile, or -1 if there was no move.
+   * @return a move to the tile, or empty if there was no move.
+   */
+  static Optional<IPlayerMove> toMove(HexGrid grid, int cell) {
+    if (cell == -1) {
+      return Optional.empty();
+    }
+    return Optional.of(new Move(new ReversiPosn(grid.getQ(cell), grid.getR(cell),
+            grid.getS(cell))));
+  }
+}
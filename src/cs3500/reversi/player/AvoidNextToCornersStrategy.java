@@ -1,9 +1,8 @@
 package cs3500.reversi.player;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
+import cs3500.reversi.model.HexGrid;
 import cs3500.reversi.model.ReadOnlyReversiModel;
 import cs3500.reversi.model.ReversiPiece;
 
@@ -14,26 +13,15 @@ import cs3500.reversi.model.ReversiPiece;
 public class AvoidNextToCornersStrategy implements IPlayerMoveStrategy {
   @Override
   public Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece) {
-    Map<ReversiPosn, Integer> possibleMoves = new HashMap<>();
-
-    for (int q = -model.getHexSideLength() + 1; q < model.getHexSideLength(); q++) {
-      int r1 = Math.max(-model.getHexSideLength() + 1, -model.getHexSideLength() - q + 1);
-      int r2 = Math.min(model.getHexSideLength() - 1, model.getHexSideLength() - q - 1);
-      for (int r = r1; r <= r2; r++) {
-        int s = -q - r;
-
-        if ((!isBorderingCorner(q, r, s, model.getHexSideLength())) &&
-            model.isValidMove(q, r, s, piece)) {
-          possibleMoves.put(new ReversiPosn(q, r, s), model.numTilesGained(q, r, s, piece));
-        }
-      }
-    }
-    return ReversiPosn.findBestMove(possibleMoves);
+    HexGrid grid = HexGrid.of(model.getHexSideLength());
+    return ReversiPosn.findBestMove(model.analyzeMoves(piece, cell ->
+        !isBorderingCorner(grid.getQ(cell), grid.getR(cell), grid.getS(cell),
+            model.getHexSideLength())));
   }
 
   // helper method to determine whether the given coords are for a tile bordering a
-  // corner tile in the reversi board
-  private boolean isBorderingCorner(int q, int r, int s, int hexSideLength) {
+  // corner tile in the reversi board (also used to order the moves searched by AlphaBetaStrategy)
+  static boolean isBorderingCorner(int q, int r, int s, int hexSideLength) {
     int absQ = Math.abs(q);
     int absR = Math.abs(r);
     int absS = Math.abs(s);
@@ -0,0 +1,197 @@
+package cs3500.reversi.player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.LegalMoveGenerator;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * An exact search of the rest of a game, from a position with few empty tiles left, for the final
+ * disc difference under perfect play. It is an alpha-beta search like AlphaBetaSearch, but never
+ * stops before the game ends, so it needs no evaluator, and its scores are just disc differences.
+ *
+ * <p>Two things keep it fast near the end of a game. The empty tiles are kept in a linked list
+ * that each move unlinks one tile from and each take-back links it back into, so a node only
+ * looks at the tiles still empty rather than the whole board. And moves are ordered by parity:
+ * the board is cut into six triangular regions around the center, and moves into regions with
+ * an odd number of empty tiles are tried first, since the player who moves last in a region
+ * usually keeps the discs there.
+ *
+ * <p>A solver owns its position and buffers, so it is not safe to share one between threads.
+ */
+final class EndgameSolver {
+  private final SearchPosition position;
+  private final int head; // the sentinel of the empty tiles list, an index no tile has
+  private final int[] next; // by tile index, the next empty tile in the list
+  private final int[] prev; // by tile index, the previous empty tile in the list
+  private final int[] region; // by tile index, which of the six regions the tile is in
+  private int parity; // bit k is set if region k has an odd number of empty tiles
+  private final long[][] movesAtPly; // the legal moves generated at each ply of the current line
+  private long nodes; // the number of positions searched since this solver was created
+  private int bestScore; // the score of the best move found by the last solveRoot
+
+  /**
+   * Creates a solver for the given position, which it plays moves on and always restores before
+   * returning. The position must not change between this call and a call to solveRoot.
+   *
+   * @param position the position to solve.
+   */
+  EndgameSolver(SearchPosition position) {
+    this.position = position;
+    HexGrid grid = position.getGrid();
+    this.head = grid.getNumSlots();
+    this.next = new int[this.head + 1];
+    this.prev = new int[this.head + 1];
+    this.region = new int[this.head];
+    int last = this.head;
+    int empties = 0;
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int cell = grid.getCell(i);
+      this.region[cell] = regionOf(grid.getQ(cell), grid.getR(cell), grid.getS(cell));
+      if (position.getPieceAt(cell) == ReversiPiece.EMPTY) {
+        this.next[last] = cell;
+        this.prev[cell] = last;
+        last = cell;
+        this.parity ^= 1 << this.region[cell];
+        empties += 1;
+      }
+    }
+    this.next[last] = this.head;
+    this.prev[this.head] = last;
+    // every empty tile takes at most one move and one pass to fill
+    int numWords = (grid.getNumSlots() + 63) / 64;
+    this.movesAtPly = new long[2 * empties + 3][numWords];
+  }
+
+  // which of the six triangles around the center the tile is in: the one pointing the way its
+  // largest coordinate (by size) does. the center tile counts as region 0.
+  private static int regionOf(int q, int r, int s) {
+    int absQ = Math.abs(q);
+    int absR = Math.abs(r);
+    int absS = Math.abs(s);
+    if (absQ >= absR && absQ >= absS) {
+      return q >= 0 ? 0 : 1;
+    } else if (absR >= absS) {
+      return r >= 0 ? 2 : 3;
+    }
+    return s >= 0 ? 4 : 5;
+  }
+
+  /**
+   * Solves every legal move of the current player. Every move tying for the best score is scored
+   * exactly, and the tie is broken by ReversiPosn.findBestMove.
+   *
+   * @return the best move, or empty if the current player has no legal move.
+   */
+  Optional<IPlayerMove> solveRoot() {
+    this.nodes += 1;
+    HexGrid grid = this.position.getGrid();
+    long[] moves = this.movesAtPly[0];
+    this.position.legalMoves(moves);
+    Map<ReversiPosn, Integer> scores = new HashMap<>();
+    int best = -AlphaBetaSearch.INFINITY;
+    for (int cell = this.next[this.head]; cell != this.head; cell = this.next[cell]) {
+      if (!LegalMoveGenerator.isSet(moves, cell)) {
+        continue;
+      }
+      play(cell);
+      // searching just below the best score so far finds the exact score of any move that ties
+      // it, while any worse move only gets a bound that is still below the best
+      int score = -solve(-AlphaBetaSearch.INFINITY,
+              best == -AlphaBetaSearch.INFINITY ? AlphaBetaSearch.INFINITY : -(best - 1), 1);
+      undo(cell);
+      scores.put(new ReversiPosn(grid.getQ(cell), grid.getR(cell), grid.getS(cell)), score);
+      best = Math.max(best, score);
+    }
+    this.bestScore = best;
+    return ReversiPosn.findBestMove(scores);
+  }
+
+  /**
+   * Gets the final disc difference for the current player under perfect play.
+   *
+   * @param alpha the score the current player is already guaranteed elsewhere.
+   * @param beta  the score the opponent is already guaranteed elsewhere.
+   * @param ply   how many moves deep into the search this position is.
+   * @return the disc difference, exact if it falls strictly between alpha and beta.
+   */
+  int solve(int alpha, int beta, int ply) {
+    this.nodes += 1;
+    if (this.position.isGameOver()) {
+      ReversiPiece me = this.position.getCurrentPlayer();
+      ReversiPiece them = me == ReversiPiece.BLACK ? ReversiPiece.WHITE : ReversiPiece.BLACK;
+      return this.position.getScore(me) - this.position.getScore(them);
+    }
+    long[] moves = this.movesAtPly[ply];
+    this.position.legalMoves(moves);
+    if (LegalMoveGenerator.isEmpty(moves)) {
+      this.position.makePass();
+      int score = -solve(-beta, -alpha, ply + 1);
+      this.position.unmakeMove();
+      return score;
+    }
+    int best = -AlphaBetaSearch.INFINITY;
+    // first the moves into regions with an odd number of empty tiles, then the rest
+    for (int oddFirst = 1; oddFirst >= 0; oddFirst--) {
+      for (int cell = this.next[this.head]; cell != this.head; cell = this.next[cell]) {
+        if (!LegalMoveGenerator.isSet(moves, cell)
+                || ((this.parity >>> this.region[cell]) & 1) != oddFirst) {
+          continue;
+        }
+        play(cell);
+        int score = -solve(-beta, -alpha, ply + 1);
+        undo(cell);
+        if (score > best) {
+          best = score;
+          if (score > alpha) {
+            alpha = score;
+            if (alpha >= beta) {
+              return best; // the opponent will never allow this position
+            }
+          }
+        }
+      }
+    }
+    return best;
+  }
+
+  // moves to the tile, and takes it out of the empty tiles list. the tile keeps its own links,
+  // so undo can put it back, and a loop over the list that is at this tile can carry on.
+  private void play(int cell) {
+    this.position.makeMove(cell);
+    this.next[this.prev[cell]] = this.next[cell];
+    this.prev[this.next[cell]] = this.prev[cell];
+    this.parity ^= 1 << this.region[cell];
+  }
+
+  // takes back the move to the tile, and puts it back where it was in the empty tiles list
+  private void undo(int cell) {
+    this.position.unmakeMove();
+    this.next[this.prev[cell]] = cell;
+    this.prev[this.next[cell]] = cell;
+    this.parity ^= 1 << this.region[cell];
+  }
+
+  /**
+   * Gets the number of positions searched since this solver was created.
+   *
+   * @return the node count.
+   */
+  long getNodes() {
+    return this.nodes;
+  }
+
+  /**
+   * Gets the final disc difference of the best move found by the last call to solveRoot, for the
+   * player who was to move.
+   *
+   * @return the best score.
+   */
+  int getBestScore() {
+    return this.bestScore;
+  }
+}
@@ -0,0 +1,73 @@
+package cs3500.reversi.player;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents a strategy that plays the end of a game perfectly. Once few enough tiles are empty,
+ * it searches every way the game could still go (see EndgameSolver) and plays the move that ends
+ * with the biggest disc difference it can force; until then, it plays whatever another strategy
+ * would.
+ */
+public class EndgameStrategy implements IPlayerMoveStrategy {
+  private final int maxEmpties;
+  private final IPlayerMoveStrategy fallback;
+
+  /**
+   * Creates a strategy that solves the game once at most the given number of tiles are empty, and
+   * plays the given strategy before that.
+   *
+   * @param maxEmpties the most empty tiles the game is solved from.
+   * @param fallback   the strategy to play while more tiles are empty.
+   * @throws IllegalArgumentException if the number of empty tiles is negative.
+   */
+  public EndgameStrategy(int maxEmpties, IPlayerMoveStrategy fallback)
+          throws IllegalArgumentException {
+    if (maxEmpties < 0) {
+      throw new IllegalArgumentException("Number of empty tiles cannot be negative");
+    }
+    this.maxEmpties = maxEmpties;
+    this.fallback = Objects.requireNonNull(fallback);
+  }
+
+  @Override
+  public Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece) {
+    if (piece == null || piece != model.getCurrentPlayer()) {
+      return Optional.empty(); // there is nothing to solve unless it is this player's turn
+    }
+    SearchPosition position = new SearchPosition(model);
+    if (position.getScore(ReversiPiece.EMPTY) > this.maxEmpties) {
+      return this.fallback.playStrategy(model, piece);
+    }
+    return solve(position).getMove();
+  }
+
+  @Override
+  public void close() {
+    this.fallback.close();
+  }
+
+  /**
+   * Solves the given model's game to the end for the player whose turn it is, however many tiles
+   * are empty.
+   *
+   * @param model the model to solve.
+   * @return the best move along with the final disc difference it forces for the player to move,
+   *         the number of empty tiles, and the nodes searched.
+   * @throws IllegalStateException if the game has not been started.
+   */
+  public static SearchResult solve(ReadOnlyReversiModel model) throws IllegalStateException {
+    return solve(new SearchPosition(model));
+  }
+
+  private static SearchResult solve(SearchPosition position) {
+    EndgameSolver solver = new EndgameSolver(position);
+    Optional<IPlayerMove> move = solver.solveRoot();
+    return new SearchResult(move, move.isPresent() ? solver.getBestScore() : 0,
+            position.getScore(ReversiPiece.EMPTY), solver.getNodes());
+  }
+}
@@ -9,9 +9,10 @@ import cs3500.reversi.model.ReversiPiece;
 /**
  * Represents a strategy pattern for Reversi players.
  * Implementations of this interface define strategies for making decisions in a Reversi game,
- * like where to move a piece to.
+ * like where to move a piece to. A strategy that searches on threads of its own keeps them until
+ * it is closed.
  */
-public interface IPlayerMoveStrategy {
+public interface IPlayerMoveStrategy extends AutoCloseable {
 
   /**
    * Gets the ReversiPosn for a move in the model, if deemed valid by model.
@@ -22,4 +23,12 @@ public interface IPlayerMoveStrategy {
    */
   Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece);
 
+  /**
+   * Stops any threads this strategy searches on, after which it must not be played again. By
+   * default there are none, so there is nothing to do.
+   */
+  @Override
+  default void close() {
+    // no threads to stop
+  }
 }
@@ -0,0 +1,160 @@
+package cs3500.reversi.player;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents a look-ahead strategy that is given a fixed amount of time per move rather than a
+ * fixed depth. It searches one move ahead, then two, then three, and so on, each time trying the
+ * best move so far first, until the time runs out; it then plays the best move of the deepest
+ * search that finished. However long a deeper search would take, a move is chosen within the
+ * budget (plus the time it takes to notice the clock, which is a few hundred positions).
+ *
+ * <p>Every depth, and every later move, shares one TranspositionTable, so each search starts with
+ * what the ones before it learned about the best move in each position.
+ */
+public class IterativeDeepeningStrategy implements IPlayerMoveStrategy {
+  private final long budgetNanos;
+  private final int maxDepth;
+  private final PositionEvaluator evaluator;
+  private final TranspositionTable table; // null if the strategy does not use one
+
+  /**
+   * Creates a strategy that searches as deep as it can in the given time per move, scoring
+   * positions with a WeightedTileEvaluator.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @throws IllegalArgumentException if the budget is not positive.
+   */
+  public IterativeDeepeningStrategy(long budgetMillis) throws IllegalArgumentException {
+    this(budgetMillis, Integer.MAX_VALUE, new WeightedTileEvaluator());
+  }
+
+  /**
+   * Creates a strategy that searches as deep as it can in the given time per move, up to the
+   * given depth, scoring positions with the given evaluator.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @param maxDepth     the deepest the strategy will search.
+   * @param evaluator    scores the positions where the search stops.
+   * @throws IllegalArgumentException if the budget or the depth is not positive.
+   */
+  public IterativeDeepeningStrategy(long budgetMillis, int maxDepth, PositionEvaluator evaluator)
+          throws IllegalArgumentException {
+    this(budgetMillis, maxDepth, evaluator, AlphaBetaStrategy.DEFAULT_TABLE_SIZE);
+  }
+
+  /**
+   * Creates a strategy that searches as deep as it can in the given time per move, up to the
+   * given depth, scoring positions with the given evaluator and remembering them in a
+   * transposition table of the given size.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @param maxDepth     the deepest the strategy will search.
+   * @param evaluator    scores the positions where the search stops.
+   * @param tableSize    the number of entries in the table, a power of two no more than
+   *                     TranspositionTable.MAX_ENTRIES, or 0 for no table.
+   * @throws IllegalArgumentException if the budget or the depth is not positive, or the table
+   *                                  size is neither 0 nor a power of two, or is more than
+   *                                  TranspositionTable.MAX_ENTRIES.
+   */
+  public IterativeDeepeningStrategy(long budgetMillis, int maxDepth, PositionEvaluator evaluator,
+                                    int tableSize) throws IllegalArgumentException {
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("Cannot search without any time");
+    }
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Cannot search less than one move ahead");
+    }
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    this.maxDepth = maxDepth;
+    this.evaluator = Objects.requireNonNull(evaluator);
+    this.table = tableSize == 0 ? null : new TranspositionTable(tableSize);
+  }
+
+  @Override
+  public Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece) {
+    return search(model, piece).getMove();
+  }
+
+  /**
+   * Searches for the given player's best move within this strategy's time budget, and reports
+   * how deep the search got.
+   *
+   * @param model the model to search from.
+   * @param piece the piece the strategy is playing for.
+   * @return the chosen move along with its score, the depth reached, and the nodes searched.
+   */
+  public SearchResult search(ReadOnlyReversiModel model, ReversiPiece piece) {
+    long start = System.nanoTime();
+    if (piece == null || piece != model.getCurrentPlayer()) {
+      return new SearchResult(Optional.empty(), 0, 0, 0);
+    }
+    SearchPosition position = new SearchPosition(model);
+    AlphaBetaSearch search = new AlphaBetaSearch(position, this.evaluator, this.table);
+    return deepen(position, search, start, this.budgetNanos, this.maxDepth);
+  }
+
+  /**
+   * Searches one move deeper at a time from the given position until the budget, measured from
+   * the given start, runs out, and returns the best move of the deepest search that finished.
+   *
+   * @param position    the position the search plays on.
+   * @param search      the search over that position.
+   * @param start       when the budget started, as given by System.nanoTime().
+   * @param budgetNanos the time allowed for the whole search, in nanoseconds.
+   * @param maxDepth    the deepest to search.
+   * @return the chosen move along with its score, the depth reached, and the nodes searched.
+   */
+  static SearchResult deepen(SearchPosition position, AlphaBetaSearch search, long start,
+                             long budgetNanos, int maxDepth) {
+    // the first search is always allowed to finish, so there is always a move to play.
+    int best = search.searchRoot(1);
+    int score = search.getBestScore();
+    int reached = 1;
+    int limit = depthLimit(position, maxDepth);
+    search.setDeadline(start + budgetNanos);
+    while (best != -1 && reached < limit && Math.abs(score) < AlphaBetaSearch.WIN_SCORE
+            && System.nanoTime() - start < budgetNanos / 2) {
+      // each depth usually takes several times as long as the one before, so a depth started
+      // after half the budget is gone would almost never finish in time.
+      int next = search.searchRoot(reached + 1, best);
+      if (search.isAborted()) {
+        break;
+      }
+      best = next;
+      score = search.getBestScore();
+      reached += 1;
+    }
+    return new SearchResult(AlphaBetaStrategy.toMove(position.getGrid(), best), score, reached,
+            search.getNodes());
+  }
+
+  /**
+   * Gets the deepest it is worth searching from the given position.
+   *
+   * @param position the position to search from.
+   * @param maxDepth the deepest a strategy allows.
+   * @return the smaller of the given depth and the most plies the game could still last.
+   */
+  static int depthLimit(SearchPosition position, int maxDepth) {
+    // a game cannot last more than two plies (a move and a pass) per empty tile, so searching any
+    // deeper than that finds nothing new.
+    return Math.min(maxDepth, 2 * position.getScore(ReversiPiece.EMPTY) + 2);
+  }
+
+  /**
+   * Gets the table this strategy remembers searched positions in, for instance to see its hit
+   * rate.
+   *
+   * @return the table, or empty if this strategy was created without one.
+   */
+  public Optional<TranspositionTable> getTranspositionTable() {
+    return Optional.ofNullable(this.table);
+  }
+}
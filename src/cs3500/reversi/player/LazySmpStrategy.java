@@ -0,0 +1,200 @@
+package cs3500.reversi.player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents a look-ahead strategy that searches like IterativeDeepeningStrategy, within a fixed
+ * time per move, with helper threads working alongside it (the "Lazy SMP" scheme). Every helper
+ * runs the same deepening search from the same position on its own copy of it, and every thread
+ * shares one TranspositionTable, so what any thread learns about a position (its score, or its
+ * best move) saves the others from searching it again. Half of the helpers start a depth ahead of
+ * the rest, so that the threads spread out over different parts of the search rather than all
+ * repeating the same one.
+ *
+ * <p>Only the main thread (the one that asks for a move) decides which move is played; helpers
+ * only fill in the table, and are stopped as soon as the main thread is done. The helper threads
+ * are kept between moves, so the strategy should be closed once it is done with.
+ */
+public class LazySmpStrategy implements IPlayerMoveStrategy {
+  private final long budgetNanos;
+  private final int threads;
+  private final int maxDepth;
+  private final PositionEvaluator evaluator;
+  private final TranspositionTable table;
+  private final ExecutorService helpers; // null if there are no helper threads
+
+  /**
+   * Creates a strategy that searches as deep as it can in the given time per move on one thread
+   * per available processor, scoring positions with a WeightedTileEvaluator.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @throws IllegalArgumentException if the budget is not positive.
+   */
+  public LazySmpStrategy(long budgetMillis) throws IllegalArgumentException {
+    this(budgetMillis, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a strategy that searches as deep as it can in the given time per move on the given
+   * number of threads, scoring positions with a WeightedTileEvaluator.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @param threads      the number of threads to search on, counting the main thread.
+   * @throws IllegalArgumentException if the budget or the number of threads is not positive.
+   */
+  public LazySmpStrategy(long budgetMillis, int threads) throws IllegalArgumentException {
+    this(budgetMillis, threads, Integer.MAX_VALUE, new WeightedTileEvaluator(),
+            AlphaBetaStrategy.DEFAULT_TABLE_SIZE);
+  }
+
+  /**
+   * Creates a strategy that searches as deep as it can in the given time per move, up to the
+   * given depth, on the given number of threads, scoring positions with the given evaluator and
+   * sharing a transposition table of the given size.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @param threads      the number of threads to search on, counting the main thread.
+   * @param maxDepth     the deepest the strategy will search.
+   * @param evaluator    scores the positions where the search stops.
+   * @param tableSize    the number of entries in the shared table, a power of two no more than
+   *                     TranspositionTable.MAX_ENTRIES.
+   * @throws IllegalArgumentException if the budget, the number of threads, or the depth is not
+   *                                  positive, or the table size is not a power of two, or is more
+   *                                  than TranspositionTable.MAX_ENTRIES.
+   */
+  public LazySmpStrategy(long budgetMillis, int threads, int maxDepth,
+                         PositionEvaluator evaluator, int tableSize)
+          throws IllegalArgumentException {
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("Cannot search without any time");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Cannot search on less than one thread");
+    }
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Cannot search less than one move ahead");
+    }
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    this.threads = threads;
+    this.maxDepth = maxDepth;
+    this.evaluator = Objects.requireNonNull(evaluator);
+    // the threads share the table, so it is what makes the helpers any use
+    this.table = new TranspositionTable(tableSize);
+    this.helpers = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, runnable -> {
+      Thread thread = new Thread(runnable, "reversi-search-helper");
+      thread.setDaemon(true); // helpers never keep the program running
+      return thread;
+    });
+  }
+
+  @Override
+  public Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece) {
+    return search(model, piece).getMove();
+  }
+
+  /**
+   * Searches for the given player's best move within this strategy's time budget, with every
+   * helper thread searching alongside.
+   *
+   * @param model the model to search from.
+   * @param piece the piece the strategy is playing for.
+   * @return the main thread's chosen move along with its score and the depth it reached, and the
+   *         nodes searched by every thread.
+   * @throws java.util.concurrent.RejectedExecutionException if the strategy has helper threads
+   *                                                         and has been closed.
+   */
+  public SearchResult search(ReadOnlyReversiModel model, ReversiPiece piece) {
+    long start = System.nanoTime();
+    if (piece == null || piece != model.getCurrentPlayer()) {
+      return new SearchResult(Optional.empty(), 0, 0, 0);
+    }
+    SearchPosition root = new SearchPosition(model);
+    AtomicBoolean stop = new AtomicBoolean(false);
+    List<Future<Long>> running = new ArrayList<>();
+    for (int helper = 1; helper < this.threads; helper++) {
+      int firstDepth = 1 + helper % 2;
+      running.add(this.helpers.submit(() -> help(root, firstDepth, start, stop)));
+    }
+
+    SearchPosition position = new SearchPosition(root.getGrid().getHexSideLength());
+    position.copyFrom(root);
+    AlphaBetaSearch search = new AlphaBetaSearch(position, this.evaluator, this.table);
+    SearchResult result;
+    try {
+      result = IterativeDeepeningStrategy.deepen(position, search, start, this.budgetNanos,
+              this.maxDepth);
+    } finally {
+      stop.set(true);
+    }
+    long nodes = result.getNodes();
+    // wait for every helper, so none is still searching when the next move is asked for; the
+    // helpers have already been told to stop, so even if this thread is interrupted the wait is
+    // short, and the interrupt is kept for whoever asked for the move
+    boolean interrupted = false;
+    for (Future<Long> helper : running) {
+      while (true) {
+        try {
+          nodes += helper.get();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          throw new IllegalStateException("A search helper failed", e.getCause());
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    return new SearchResult(result.getMove(), result.getScore(), result.getDepth(), nodes);
+  }
+
+  // runs one helper's deepening search on its own copy of the root until told to stop, and
+  // returns how many positions it searched
+  private long help(SearchPosition root, int firstDepth, long start, AtomicBoolean stop) {
+    SearchPosition position = new SearchPosition(root.getGrid().getHexSideLength());
+    position.copyFrom(root);
+    AlphaBetaSearch search = new AlphaBetaSearch(position, this.evaluator, this.table);
+    search.setStopSignal(stop);
+    search.setDeadline(start + this.budgetNanos);
+    int limit = IterativeDeepeningStrategy.depthLimit(position, this.maxDepth);
+    int best = -1;
+    for (int depth = firstDepth; depth <= limit && !stop.get(); depth++) {
+      int next = search.searchRoot(depth, best);
+      if (search.isAborted() || next == -1) {
+        break;
+      }
+      best = next;
+    }
+    return search.getNodes();
+  }
+
+  @Override
+  public void close() {
+    if (this.helpers != null) {
+      this.helpers.shutdown();
+    }
+  }
+
+  /**
+   * Gets the table every thread of this strategy shares, for instance to see its hit rate.
+   *
+   * @return the shared table.
+   */
+  public TranspositionTable getTranspositionTable() {
+    return this.table;
+  }
+}
@@ -33,4 +33,11 @@ public class ManyStrategy implements IPlayerMoveStrategy {
     }
     return Optional.of(new Pass());  // none of the strats returned a move!
   }
+
+  @Override
+  public void close() {
+    for (IPlayerMoveStrategy strat : this.strategyList) {
+      strat.close();
+    }
+  }
 }
@@ -0,0 +1,372 @@
+package cs3500.reversi.player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.LegalMoveGenerator;
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents a strategy that picks a move by playing many quick games to the end from the current
+ * position (Monte Carlo tree search, with the UCT rule for choosing which line to play next). Each
+ * game follows the tree of moves played so far, favouring moves that have won most often while
+ * still trying the others now and then, adds one new position to the tree, and from there plays
+ * random moves (always taking a corner when one is free) until the game ends. The move played is
+ * the one the most games went through.
+ *
+ * <p>Games are played on a SearchPosition and taken back when they end, so a game allocates
+ * nothing but the one new tree node. Several threads can build the same tree at once: a thread
+ * counts its visit to a position as soon as it passes through, and only adds the result when its
+ * game ends, so until then the visit reads as a loss ("virtual loss") and the other threads are
+ * steered towards other lines. The helper threads are kept between moves, so the strategy should
+ * be closed once it is done with.
+ */
+public class MonteCarloStrategy implements IPlayerMoveStrategy {
+  // how strongly UCT favours trying rarely played moves over replaying the best ones.
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  private final long budgetNanos;
+  private final long maxPlayouts;
+  private final int threads;
+  private final long seed;
+  private final ExecutorService helpers; // null if there are no helper threads
+
+  /**
+   * Creates a strategy that plays as many games as it can in the given time per move, on one
+   * thread per available processor.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @throws IllegalArgumentException if the budget is not positive.
+   */
+  public MonteCarloStrategy(long budgetMillis) throws IllegalArgumentException {
+    this(budgetMillis, Long.MAX_VALUE, Runtime.getRuntime().availableProcessors(),
+            System.nanoTime());
+  }
+
+  /**
+   * Creates a strategy that plays games until either the given time per move runs out or it has
+   * played the given number of games, on the given number of threads.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @param maxPlayouts  the most games to play for each move.
+   * @param threads      the number of threads to play games on, counting the main thread.
+   * @param seed         the seed of the random moves; with one thread and no time limit reached,
+   *                     the same seed always picks the same move.
+   * @throws IllegalArgumentException if the budget, the number of games, or the number of threads
+   *                                  is not positive.
+   */
+  public MonteCarloStrategy(long budgetMillis, long maxPlayouts, int threads, long seed)
+          throws IllegalArgumentException {
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("Cannot search without any time");
+    }
+    if (maxPlayouts <= 0) {
+      throw new IllegalArgumentException("Cannot search without playing any games");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Cannot search on less than one thread");
+    }
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    this.maxPlayouts = maxPlayouts;
+    this.threads = threads;
+    this.seed = seed;
+    this.helpers = threads == 1 ? null : Executors.newFixedThreadPool(threads - 1, runnable -> {
+      Thread thread = new Thread(runnable, "reversi-playout-helper");
+      thread.setDaemon(true); // helpers never keep the program running
+      return thread;
+    });
+  }
+
+  @Override
+  public Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece) {
+    return search(model, piece).getMove();
+  }
+
+  /**
+   * Plays games from the given model until this strategy's budget runs out, and chooses the move
+   * the most games went through.
+   *
+   * @param model the model to search from.
+   * @param piece the piece the strategy is playing for.
+   * @return the chosen move; its score is the share of games through it that the player won, in
+   *         thousandths (a tie counting as half); the depth is the deepest the tree grew; and
+   *         the node count is the number of games played.
+   * @throws java.util.concurrent.RejectedExecutionException if the strategy has helper threads
+   *                                                         and has been closed.
+   */
+  public SearchResult search(ReadOnlyReversiModel model, ReversiPiece piece) {
+    long start = System.nanoTime();
+    if (piece == null || piece != model.getCurrentPlayer()) {
+      return new SearchResult(Optional.empty(), 0, 0, 0);
+    }
+    SearchPosition root = new SearchPosition(model);
+    HexGrid grid = root.getGrid();
+    Node tree = new Node(SearchPosition.PASS, null);
+    Node[] moves = tree.expand(root, MoveOrder.of(grid));
+    if (moves.length == 0 || moves[0].move == SearchPosition.PASS) {
+      return new SearchResult(Optional.empty(), 0, 0, 0);
+    }
+    if (moves.length == 1) {
+      return new SearchResult(AlphaBetaStrategy.toMove(grid, moves[0].move), 0, 0, 0);
+    }
+
+    AtomicLong played = new AtomicLong();
+    AtomicInteger deepest = new AtomicInteger();
+    List<Future<?>> running = new ArrayList<>();
+    for (int helper = 1; helper < this.threads; helper++) {
+      Playouts playouts = new Playouts(root, tree, this.seed + helper);
+      running.add(this.helpers.submit(() -> playouts.run(start, played, deepest)));
+    }
+    new Playouts(root, tree, this.seed).run(start, played, deepest);
+    // the helpers stop on the same budget as this thread, so even if this thread is interrupted
+    // it waits for them rather than read the tree while they still change it, and keeps the
+    // interrupt for whoever asked for the move
+    boolean interrupted = false;
+    for (Future<?> helper : running) {
+      while (true) {
+        try {
+          helper.get();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          throw new IllegalStateException("A playout helper failed", e.getCause());
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+
+    // the most visited move is the one the search trusts most; ties go uppermost-leftmost
+    Map<ReversiPosn, Integer> visits = new HashMap<>();
+    for (Node move : moves) {
+      visits.put(new ReversiPosn(grid.getQ(move.move), grid.getR(move.move),
+              grid.getS(move.move)), move.visits.get());
+    }
+    Optional<IPlayerMove> best = ReversiPosn.findBestMove(visits);
+    int score = 0;
+    for (Node move : moves) {
+      if (best.equals(AlphaBetaStrategy.toMove(grid, move.move)) && move.visits.get() > 0) {
+        score = (int) (move.reward.get() * 500 / move.visits.get());
+      }
+    }
+    // every thread counts one game too many when it finds the games used up
+    return new SearchResult(best, score, deepest.get(), Math.min(played.get(), this.maxPlayouts));
+  }
+
+  @Override
+  public void close() {
+    if (this.helpers != null) {
+      this.helpers.shutdown();
+    }
+  }
+
+  /**
+   * A position in the tree of games played: the move that led to it, who made that move, and how
+   * those games went for them.
+   */
+  private static final class Node {
+    private final int move; // the tile moved to, or SearchPosition.PASS
+    private final ReversiPiece mover; // the player who made the move, or null at the root
+    // the games played through this position, counted as soon as a game passes through
+    private final AtomicInteger visits = new AtomicInteger();
+    // two points for each of those games the mover won and one for each tie, added as they end
+    private final AtomicLong reward = new AtomicLong();
+    private volatile Node[] children; // null until the position is expanded
+
+    Node(int move, ReversiPiece mover) {
+      this.move = move;
+      this.mover = mover;
+    }
+
+    // adds a child for every legal move in the position (or one for passing, if there are none,
+    // or none at all if the game is over), once, however many threads ask at the same time
+    Node[] expand(SearchPosition position, int[] order) {
+      Node[] expanded = this.children;
+      if (expanded != null) {
+        return expanded;
+      }
+      synchronized (this) {
+        if (this.children == null) {
+          ReversiPiece player = position.getCurrentPlayer();
+          List<Node> moves = new ArrayList<>();
+          if (!position.isGameOver()) {
+            long[] legal = new long[(position.getGrid().getNumSlots() + 63) / 64];
+            position.legalMoves(legal);
+            for (int cell : order) {
+              if (LegalMoveGenerator.isSet(legal, cell)) {
+                moves.add(new Node(cell, player));
+              }
+            }
+            if (moves.isEmpty()) {
+              moves.add(new Node(SearchPosition.PASS, player));
+            }
+          }
+          this.children = moves.toArray(new Node[0]);
+        }
+        return this.children;
+      }
+    }
+
+    // the child UCT picks next: any child no game has gone through yet, or else the one whose
+    // win rate plus exploration bonus is highest
+    Node select(Node[] options) {
+      double logVisits = Math.log(Math.max(1, this.visits.get()));
+      Node best = options[0];
+      double bestValue = Double.NEGATIVE_INFINITY;
+      for (Node option : options) {
+        int visited = option.visits.get();
+        if (visited == 0) {
+          return option;
+        }
+        double value = option.reward.get() / (2.0 * visited)
+                + EXPLORATION * Math.sqrt(logVisits / visited);
+        if (value > bestValue) {
+          best = option;
+          bestValue = value;
+        }
+      }
+      return best;
+    }
+  }
+
+  /**
+   * Plays games on one thread, on that thread's own copy of the root position.
+   */
+  private final class Playouts {
+    private final SearchPosition position;
+    private final Node tree;
+    private final SplittableRandom random;
+    private final int[] order;
+    private final long[] moves;
+    private final long[] corners;
+    private Node[] path; // the tree nodes the current game has gone through
+
+    Playouts(SearchPosition root, Node tree, long seed) {
+      HexGrid grid = root.getGrid();
+      this.position = new SearchPosition(grid.getHexSideLength());
+      this.position.copyFrom(root);
+      this.tree = tree;
+      this.random = new SplittableRandom(seed);
+      this.order = MoveOrder.of(grid);
+      this.moves = new long[(grid.getNumSlots() + 63) / 64];
+      this.corners = new long[this.moves.length];
+      for (int i = 0; i < grid.getNumCells(); i++) {
+        int cell = grid.getCell(i);
+        if (PlayCornersStrategy.isCornerPosition(grid.getQ(cell), grid.getR(cell),
+                grid.getS(cell), grid.getHexSideLength())) {
+          LegalMoveGenerator.set(this.corners, cell);
+        }
+      }
+      this.path = new Node[2 * grid.getNumCells() + 4];
+    }
+
+    // plays games until the budget is used up
+    void run(long start, AtomicLong played, AtomicInteger deepest) {
+      int rootPly = this.position.getPly();
+      while (System.nanoTime() - start < budgetNanos
+              && played.getAndIncrement() < maxPlayouts) {
+        int depth = descend();
+        deepest.accumulateAndGet(depth, Math::max);
+        rollOut();
+        ReversiPiece winner = this.position.getWinner();
+        for (int i = 0; i <= depth; i++) {
+          Node node = this.path[i];
+          node.reward.addAndGet(winner == node.mover ? 2 : winner == ReversiPiece.EMPTY ? 1 : 0);
+        }
+        while (this.position.getPly() > rootPly) {
+          this.position.unmakeMove();
+        }
+      }
+    }
+
+    // follows the tree from the root, playing each move chosen, until reaching a position no
+    // game has been through before (or the end of the game), and returns how deep that is
+    private int descend() {
+      Node node = this.tree;
+      node.visits.incrementAndGet();
+      this.path[0] = node;
+      int depth = 0;
+      while (true) {
+        Node[] children = node.expand(this.position, this.order);
+        if (children.length == 0) {
+          return depth; // the game is over
+        }
+        node = node.select(children);
+        int visited = node.visits.incrementAndGet(); // counts as a loss until the game ends
+        play(node.move);
+        depth += 1;
+        if (depth == this.path.length) {
+          this.path = Arrays.copyOf(this.path, 2 * depth);
+        }
+        this.path[depth] = node;
+        if (visited == 1) {
+          return depth;
+        }
+      }
+    }
+
+    // plays random moves until the game ends, always taking a corner when one is free
+    private void rollOut() {
+      while (!this.position.isGameOver()) {
+        this.position.legalMoves(this.moves);
+        int count = LegalMoveGenerator.count(this.moves);
+        if (count == 0) {
+          this.position.makePass();
+          continue;
+        }
+        int cornerCount = 0;
+        for (int i = 0; i < this.moves.length; i++) {
+          cornerCount += Long.bitCount(this.moves[i] & this.corners[i]);
+        }
+        if (cornerCount > 0) {
+          for (int i = 0; i < this.moves.length; i++) {
+            this.moves[i] &= this.corners[i];
+          }
+          count = cornerCount;
+        }
+        this.position.makeMove(nthSetBit(this.moves, this.random.nextInt(count)));
+      }
+    }
+
+    private void play(int move) {
+      if (move == SearchPosition.PASS) {
+        this.position.makePass();
+      } else {
+        this.position.makeMove(move);
+      }
+    }
+  }
+
+  // the index of the n-th tile (counting from 0) in the bitboard
+  private static int nthSetBit(long[] bitboard, int n) {
+    for (int i = 0; i < bitboard.length; i++) {
+      long word = bitboard[i];
+      int count = Long.bitCount(word);
+      if (n < count) {
+        for (int skip = 0; skip < n; skip++) {
+          word &= word - 1;
+        }
+        return i * 64 + Long.numberOfTrailingZeros(word);
+      }
+      n -= count;
+    }
+    return -1;
+  }
+}
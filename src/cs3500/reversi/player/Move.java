@@ -43,5 +43,10 @@ public class Move implements IPlayerMove {
     Move move = (Move) obj;
     return this.posn.equals(move.posn);
   }
+
+  @Override
+  public String toString() {
+    return "(" + this.posn.q + ", " + this.posn.r + ", " + this.posn.s + ")";
+  }
 }
 
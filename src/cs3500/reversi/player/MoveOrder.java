@@ -0,0 +1,61 @@
+package cs3500.reversi.player;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cs3500.reversi.model.HexGrid;
+
+/**
+ * The order in which look-ahead strategies try the tiles of a board: corners first, since they are
+ * usually the best moves, then every ordinary tile, and the tiles bordering a corner last, since
+ * they are usually the worst. Trying good moves first lets alpha-beta search cut off the rest of a
+ * node sooner. Within each group tiles keep the grid's order (q then r), so searches are
+ * deterministic.
+ */
+final class MoveOrder {
+  // the order of every board size seen so far. an order never changes once built, so it is shared.
+  private static final Map<Integer, int[]> ORDERS = new ConcurrentHashMap<>();
+
+  private MoveOrder() {
+    // only holds the static order of each board size
+  }
+
+  /**
+   * Gets the index of every tile on the given grid, in the order they should be searched. The
+   * returned array is shared and must not be changed.
+   *
+   * @param grid the grid of the board being searched.
+   * @return the tile indices in search order.
+   */
+  static int[] of(HexGrid grid) {
+    return ORDERS.computeIfAbsent(grid.getHexSideLength(), n -> build(HexGrid.of(n)));
+  }
+
+  // lists the tiles of the grid with corners first and tiles bordering a corner last
+  private static int[] build(HexGrid grid) {
+    int n = grid.getHexSideLength();
+    int[] order = new int[grid.getNumCells()];
+    int next = 0;
+    for (int group = 0; group < 3; group++) {
+      for (int i = 0; i < grid.getNumCells(); i++) {
+        int cell = grid.getCell(i);
+        int q = grid.getQ(cell);
+        int r = grid.getR(cell);
+        int s = grid.getS(cell);
+        int cellGroup;
+        if (PlayCornersStrategy.isCornerPosition(q, r, s, n)) {
+          cellGroup = 0;
+        } else if (AvoidNextToCornersStrategy.isBorderingCorner(q, r, s, n)) {
+          cellGroup = 2;
+        } else {
+          cellGroup = 1;
+        }
+        if (cellGroup == group) {
+          order[next] = cell;
+          next += 1;
+        }
+      }
+    }
+    return order;
+  }
+}
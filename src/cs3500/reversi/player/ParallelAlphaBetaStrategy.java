@@ -0,0 +1,175 @@
+package cs3500.reversi.player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.LegalMoveGenerator;
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents a strategy that looks a fixed number of moves ahead like AlphaBetaStrategy, but
+ * searches the moves it could make at the same time on several threads. The first move (in the
+ * usual corners-first order) is searched alone, to find a score for the others to beat; every
+ * other move is then searched on a ForkJoinPool, each worker on its own copy of the position, and
+ * every worker that finishes raises the score the ones still starting have to beat.
+ *
+ * <p>A move is only ever searched with a bound below every score found so far, so every move that
+ * ties for the best score gets its exact score however the threads happen to run, and the chosen
+ * move is the uppermost-leftmost of those (the same tie-break as ReversiPosn.findBestMove). How
+ * many nodes are searched does depend on how the threads run, since a move that starts after
+ * another finishes is searched with a tighter bound.
+ *
+ * <p>The strategy's threads are kept between moves, so it should be closed once it is done with.
+ */
+public class ParallelAlphaBetaStrategy implements IPlayerMoveStrategy {
+  private final int depth;
+  private final PositionEvaluator evaluator;
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a strategy that searches to the given depth on one thread per available processor,
+   * scoring positions with a WeightedTileEvaluator.
+   *
+   * @param depth the number of moves (counting both players) to look ahead.
+   * @throws IllegalArgumentException if the depth is less than 1.
+   */
+  public ParallelAlphaBetaStrategy(int depth) throws IllegalArgumentException {
+    this(depth, Runtime.getRuntime().availableProcessors(), new WeightedTileEvaluator());
+  }
+
+  /**
+   * Creates a strategy that searches to the given depth on the given number of threads, scoring
+   * positions with the given evaluator.
+   *
+   * @param depth     the number of moves (counting both players) to look ahead.
+   * @param threads   the number of threads to search on.
+   * @param evaluator scores the positions where the search stops.
+   * @throws IllegalArgumentException if the depth or the number of threads is less than 1.
+   */
+  public ParallelAlphaBetaStrategy(int depth, int threads, PositionEvaluator evaluator)
+          throws IllegalArgumentException {
+    if (depth < 1) {
+      throw new IllegalArgumentException("Cannot search less than one move ahead");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("Cannot search on less than one thread");
+    }
+    this.depth = depth;
+    this.evaluator = Objects.requireNonNull(evaluator);
+    this.pool = new ForkJoinPool(threads);
+  }
+
+  @Override
+  public Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece) {
+    return search(model, piece).getMove();
+  }
+
+  /**
+   * Searches for the given player's best move on this strategy's threads.
+   *
+   * @param model the model to search from.
+   * @param piece the piece the strategy is playing for.
+   * @return the chosen move along with its score and the nodes searched by all threads.
+   * @throws java.util.concurrent.RejectedExecutionException if the strategy has been closed.
+   */
+  public SearchResult search(ReadOnlyReversiModel model, ReversiPiece piece) {
+    if (piece == null || piece != model.getCurrentPlayer()) {
+      return new SearchResult(Optional.empty(), 0, 0, 0);
+    }
+    SearchPosition root = new SearchPosition(model);
+    HexGrid grid = root.getGrid();
+    long[] legal = new long[(grid.getNumSlots() + 63) / 64];
+    root.legalMoves(legal);
+    List<Integer> moves = new ArrayList<>();
+    for (int cell : MoveOrder.of(grid)) {
+      if (LegalMoveGenerator.isSet(legal, cell)) {
+        moves.add(cell);
+      }
+    }
+    if (moves.isEmpty()) {
+      return new SearchResult(Optional.empty(), 0, this.depth, 1);
+    }
+
+    int[] scores = new int[moves.size()];
+    AtomicInteger alpha = new AtomicInteger(-AlphaBetaSearch.INFINITY);
+    LongAdder nodes = new LongAdder();
+    List<RootMove> rest = new ArrayList<>();
+    for (int i = 1; i < moves.size(); i++) {
+      rest.add(new RootMove(root, moves.get(i), i, scores, alpha, nodes));
+    }
+    RootMove first = new RootMove(root, moves.get(0), 0, scores, alpha, nodes);
+    this.pool.invoke(new RecursiveAction() {
+      @Override
+      protected void compute() {
+        first.invoke();
+        invokeAll(rest);
+      }
+    });
+
+    int best = alpha.get();
+    Map<ReversiPosn, Integer> tied = new HashMap<>();
+    for (int i = 0; i < scores.length; i++) {
+      if (scores[i] == best) {
+        int cell = moves.get(i);
+        tied.put(new ReversiPosn(grid.getQ(cell), grid.getR(cell), grid.getS(cell)), 0);
+      }
+    }
+    return new SearchResult(ReversiPosn.findBestMove(tied), best, this.depth,
+            nodes.sum() + 1);
+  }
+
+  @Override
+  public void close() {
+    this.pool.shutdown();
+  }
+
+  /**
+   * Searches one move of the root position on a copy of it, and records the move's score.
+   */
+  private final class RootMove extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final SearchPosition root;
+    private final int cell;
+    private final int index;
+    private final int[] scores;
+    private final AtomicInteger alpha;
+    private final LongAdder nodes;
+
+    RootMove(SearchPosition root, int cell, int index, int[] scores, AtomicInteger alpha,
+             LongAdder nodes) {
+      this.root = root;
+      this.cell = cell;
+      this.index = index;
+      this.scores = scores;
+      this.alpha = alpha;
+      this.nodes = nodes;
+    }
+
+    @Override
+    protected void compute() {
+      SearchPosition position = new SearchPosition(this.root.getGrid().getHexSideLength());
+      position.copyFrom(this.root);
+      AlphaBetaSearch search = new AlphaBetaSearch(position, evaluator);
+      // searching just below the best score so far, rather than at it, means a move that ties
+      // the best score gets its exact score instead of only a bound
+      int bound = this.alpha.get();
+      int score = search.searchMove(this.cell, depth,
+              bound == -AlphaBetaSearch.INFINITY ? bound : bound - 1);
+      this.scores[this.index] = score;
+      this.alpha.accumulateAndGet(score, Math::max);
+      this.nodes.add(search.getNodes());
+    }
+  }
+}
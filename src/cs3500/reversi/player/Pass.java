@@ -37,4 +37,9 @@ public class Pass implements IPlayerMove {
     return obj instanceof Pass;
   }
 
+  @Override
+  public String toString() {
+    return "pass";
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package cs3500.reversi.player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.LegalMoveGenerator;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents an evaluator that scores a position from patterns of tiles rather than tile by tile.
+ * Each corner and its neighbors form one pattern, and each edge, read from either of its corners,
+ * forms another. A pattern's contents, read as a number in base 3 (0 for an empty tile, 1 for a
+ * black disc, 2 for a white one), index a table worked out once per board size, so scoring a
+ * pattern is one table read however much the table knows about it:
+ * <ul>
+ *   <li>a corner region scores its corner, and the neighbors of an empty corner count against
+ *   whoever holds them (as in WeightedTileEvaluator), while those of a held corner are safe;</li>
+ *   <li>an edge line scores the discs running unbroken from a held corner, which can never be
+ *   flipped, and a little for every other disc on the edge.</li>
+ * </ul>
+ * On top of the patterns, the score counts mobility (how many legal moves each player has) and
+ * frontier discs (discs next to an empty tile, which give the opponent moves) against each other.
+ *
+ * <p>Scoring a position allocates nothing once a thread has scored one position of a board size,
+ * and one evaluator can be shared by any number of searching threads.
+ */
+public class PatternEvaluator implements PositionEvaluator {
+  private static final int CORNER_WEIGHT = 20;
+  private static final int BORDERING_EMPTY_CORNER_WEIGHT = -6;
+  private static final int BORDERING_HELD_CORNER_WEIGHT = 2;
+  private static final int STABLE_EDGE_WEIGHT = 3;
+  private static final int EDGE_WEIGHT = 1;
+  private static final int MOBILITY_WEIGHT = 2;
+  private static final int FRONTIER_WEIGHT = -1;
+  // the longest edge line read from a corner, which keeps the edge table at 3^8 entries on any
+  // board; on bigger boards the two lines of an edge each cover the end nearest their corner.
+  private static final int MAX_LINE_LENGTH = 8;
+
+  // the patterns of every board size seen so far. patterns never change once built, so they are
+  // shared by every evaluator and thread.
+  private static final Map<Integer, Patterns> PATTERNS = new ConcurrentHashMap<>();
+  // every thread's scratch space, so that scoring never allocates and never needs a lock.
+  private static final ThreadLocal<Scratch> SCRATCH = new ThreadLocal<>();
+
+  @Override
+  public int evaluate(SearchPosition position, ReversiPiece piece) {
+    HexGrid grid = position.getGrid();
+    Patterns patterns = PATTERNS.computeIfAbsent(grid.getHexSideLength(),
+        n -> new Patterns(HexGrid.of(n)));
+    Scratch scratch = SCRATCH.get();
+    if (scratch == null || scratch.grid != grid) {
+      scratch = new Scratch(grid);
+      SCRATCH.set(scratch);
+    }
+    long[] black = scratch.black;
+    long[] white = scratch.white;
+    position.getDiscs(ReversiPiece.BLACK, black);
+    position.getDiscs(ReversiPiece.WHITE, white);
+
+    // every table holds scores for black, so white's score is the same with the sign flipped
+    int score = 0;
+    for (int[] region : patterns.cornerRegions) {
+      score += patterns.cornerTable[indexOf(region, black, white)];
+    }
+    for (int[] line : patterns.edgeLines) {
+      score += patterns.edgeTable[indexOf(line, black, white)];
+    }
+
+    LegalMoveGenerator generator = scratch.generator;
+    generator.legalMoves(black, white, scratch.work);
+    int mobility = LegalMoveGenerator.count(scratch.work);
+    generator.legalMoves(white, black, scratch.work);
+    mobility -= LegalMoveGenerator.count(scratch.work);
+    score += MOBILITY_WEIGHT * mobility;
+
+    generator.allTiles(scratch.work);
+    for (int i = 0; i < black.length; i++) {
+      scratch.work[i] &= ~black[i] & ~white[i];
+    }
+    generator.neighbors(scratch.work, scratch.work);
+    int frontier = 0;
+    for (int i = 0; i < black.length; i++) {
+      frontier += Long.bitCount(scratch.work[i] & black[i])
+              - Long.bitCount(scratch.work[i] & white[i]);
+    }
+    score += FRONTIER_WEIGHT * frontier;
+
+    return piece == ReversiPiece.WHITE ? -score : score;
+  }
+
+  // reads the tiles of a pattern as a base 3 number, the first tile being the most significant
+  private static int indexOf(int[] cells, long[] black, long[] white) {
+    int index = 0;
+    for (int cell : cells) {
+      index = index * 3 + (LegalMoveGenerator.isSet(black, cell) ? 1
+              : LegalMoveGenerator.isSet(white, cell) ? 2 : 0);
+    }
+    return index;
+  }
+
+  /**
+   * The patterns of one board size, and the score tables they index.
+   */
+  private static final class Patterns {
+    // each corner then its neighbors, and each edge from a corner towards the next corner
+    private final int[][] cornerRegions;
+    private final int[][] edgeLines;
+    private final int[] cornerTable;
+    private final int[] edgeTable;
+
+    Patterns(HexGrid grid) {
+      int n = grid.getHexSideLength();
+      List<int[]> regions = new ArrayList<>();
+      List<int[]> lines = new ArrayList<>();
+      for (int i = 0; i < grid.getNumCells(); i++) {
+        int corner = grid.getCell(i);
+        int q = grid.getQ(corner);
+        int r = grid.getR(corner);
+        int s = grid.getS(corner);
+        if (!PlayCornersStrategy.isCornerPosition(q, r, s, n)) {
+          continue;
+        }
+        List<Integer> region = new ArrayList<>();
+        region.add(corner);
+        for (int j = 0; j < grid.getNumCells(); j++) {
+          int other = grid.getCell(j);
+          int distance = distance(grid, corner, other);
+          if (distance == 1) {
+            region.add(other);
+          }
+          if (distance == n - 1
+                  && PlayCornersStrategy.isCornerPosition(grid.getQ(other), grid.getR(other),
+                  grid.getS(other), n)) {
+            // the edge runs straight from this corner to the next one
+            int length = Math.min(n, MAX_LINE_LENGTH);
+            int[] line = new int[length];
+            for (int k = 0; k < length; k++) {
+              line[k] = grid.indexOf(q + k * (grid.getQ(other) - q) / (n - 1),
+                      r + k * (grid.getR(other) - r) / (n - 1),
+                      s + k * (grid.getS(other) - s) / (n - 1));
+            }
+            lines.add(line);
+          }
+        }
+        regions.add(region.stream().mapToInt(Integer::intValue).toArray());
+      }
+      this.cornerRegions = regions.toArray(new int[0][]);
+      this.edgeLines = lines.toArray(new int[0][]);
+      // every corner of a hexagon looks the same, so one table serves all of them
+      this.cornerTable = buildTable(this.cornerRegions[0].length, Patterns::cornerValue);
+      this.edgeTable = buildTable(this.edgeLines[0].length, Patterns::edgeValue);
+    }
+
+    private static int distance(HexGrid grid, int from, int to) {
+      return Math.max(Math.abs(grid.getQ(from) - grid.getQ(to)),
+              Math.max(Math.abs(grid.getR(from) - grid.getR(to)),
+                      Math.abs(grid.getS(from) - grid.getS(to))));
+    }
+
+    // works out a pattern's score for black, for every possible contents of its tiles. scoring
+    // black's discs and white's the same way keeps the table fair to both.
+    private static int[] buildTable(int length, PatternValue value) {
+      int size = 1;
+      for (int i = 0; i < length; i++) {
+        size *= 3;
+      }
+      int[] table = new int[size];
+      int[] tiles = new int[length];
+      for (int index = 0; index < size; index++) {
+        int rest = index;
+        for (int i = length - 1; i >= 0; i--) {
+          tiles[i] = rest % 3;
+          rest /= 3;
+        }
+        table[index] = value.of(tiles, 1) - value.of(tiles, 2);
+      }
+      return table;
+    }
+
+    // the value of a corner region (corner first) to the player whose discs are the given digit
+    private static int cornerValue(int[] tiles, int own) {
+      int value = tiles[0] == own ? CORNER_WEIGHT : 0;
+      for (int i = 1; i < tiles.length; i++) {
+        if (tiles[i] == own) {
+          value += tiles[0] == 0 ? BORDERING_EMPTY_CORNER_WEIGHT : BORDERING_HELD_CORNER_WEIGHT;
+        }
+      }
+      return value;
+    }
+
+    // the value of an edge line (corner first) to the player whose discs are the given digit. the
+    // corner itself is scored by its region.
+    private static int edgeValue(int[] tiles, int own) {
+      int value = 0;
+      boolean unbroken = tiles[0] == own;
+      for (int i = 1; i < tiles.length; i++) {
+        unbroken &= tiles[i] == own;
+        if (tiles[i] == own) {
+          value += unbroken ? STABLE_EDGE_WEIGHT : EDGE_WEIGHT;
+        }
+      }
+      return value;
+    }
+  }
+
+  /**
+   * Works out the value of a pattern's contents to one player.
+   */
+  private interface PatternValue {
+    int of(int[] tiles, int own);
+  }
+
+  /**
+   * One thread's bitboards and move generator for one board size.
+   */
+  private static final class Scratch {
+    private final HexGrid grid;
+    private final LegalMoveGenerator generator;
+    private final long[] black;
+    private final long[] white;
+    private final long[] work;
+
+    Scratch(HexGrid grid) {
+      this.grid = grid;
+      this.generator = new LegalMoveGenerator(grid.getHexSideLength());
+      this.black = this.generator.newBitboard();
+      this.white = this.generator.newBitboard();
+      this.work = this.generator.newBitboard();
+    }
+  }
+}
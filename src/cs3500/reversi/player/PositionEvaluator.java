@@ -0,0 +1,22 @@
+package cs3500.reversi.player;
+
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents a way of judging how good a position is for a player, used by look-ahead strategies
+ * to score the positions at the end of the lines of play they search.
+ */
+public interface PositionEvaluator {
+
+  /**
+   * Scores the given position from the point of view of the given player, where higher scores
+   * are better for that player. Scores should be symmetric, so that a position scores x for one
+   * player exactly when it scores -x for the other.
+   *
+   * @param position the position to score, which must not be changed.
+   * @param piece    the piece of the player the score is for.
+   * @return the score of the position for that player.
+   */
+  int evaluate(SearchPosition position, ReversiPiece piece);
+}
@@ -0,0 +1,417 @@
+package cs3500.reversi.player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.LegalMoveGenerator;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * A depth-limited principal variation search (NegaScout) over a SearchPosition. It finds the same
+ * scores as AlphaBetaSearch, but searches fewer positions: only the first move of a node is
+ * searched with the full window, and every other move is first only checked to be no better than
+ * it with a null window (which cuts off much sooner), and searched properly only if it is better.
+ * That pays off when the first move is usually the best, so moves are ordered by, in turn, the
+ * move a TranspositionTable remembers for the position, the two killer moves of the ply (recent
+ * moves that cut off a sibling node), and the history score of the tile (how much cutting off
+ * moves to it has saved so far in the search), with ties in the usual corners-first order.
+ *
+ * <p>The search keeps the principal variation, the line both players are expected to play, and
+ * can be given a deadline, after which it stops as soon as it notices, as AlphaBetaSearch does.
+ *
+ * <p>A search owns its position and buffers, so it is not safe to share one between threads (the
+ * table, though, can be shared).
+ */
+final class PrincipalVariationSearch {
+  // how many nodes to search between looks at the clock, minus one (a power of two minus one).
+  private static final int CLOCK_CHECK_MASK = 1023;
+  // mixed into the hash of a position reached by a pass, since another pass would end the game.
+  private static final long PASSED_KEY = 0x9E37_79B9_7F4A_7C15L;
+  // the ordering keys of the table move and killer moves, above any history score
+  private static final long TABLE_MOVE_KEY = Long.MAX_VALUE;
+  private static final long FIRST_KILLER_KEY = Long.MAX_VALUE - 1;
+  private static final long SECOND_KILLER_KEY = Long.MAX_VALUE - 2;
+
+  private final SearchPosition position;
+  private final PositionEvaluator evaluator;
+  private final TranspositionTable table; // null if the search does not use one
+  private final int numWords; // the length of a move bitboard for the position's grid
+  private final int[] order; // the order tiles are tried in when nothing else tells them apart
+  private final long[] history; // by tile index, the history score of moving there
+  private long[][] movesAtPly; // the legal moves generated at each ply of the current line
+  private int[][] listAtPly; // the legal moves of each ply, in the order they are tried
+  private long[][] keysAtPly; // the ordering key of each move in listAtPly
+  private int[][] killers; // by ply, the two latest moves that cut off a node at that ply
+  private int[][] pv; // by ply, the principal variation from that ply on (PASS for a pass)
+  private int[] pvLength; // by ply, where the principal variation from that ply ends
+  private long nodes; // the number of positions searched since this search was created
+  private int bestScore; // the score found by the last searchRoot
+  private boolean timed = false; // whether the search has a deadline at all
+  private long deadline; // the System.nanoTime() after which the search stops
+  private boolean aborted = false; // whether the last searchRoot ran out of time
+
+  /**
+   * Creates a search over the given position that remembers what it finds in the given table.
+   *
+   * @param position  the position to search from.
+   * @param evaluator scores the positions where the search stops.
+   * @param table     the table to look positions up in and store them to, or null for none.
+   */
+  PrincipalVariationSearch(SearchPosition position, PositionEvaluator evaluator,
+                           TranspositionTable table) {
+    this.position = position;
+    this.evaluator = evaluator;
+    this.table = table;
+    HexGrid grid = position.getGrid();
+    this.numWords = (grid.getNumSlots() + 63) / 64;
+    this.order = MoveOrder.of(grid);
+    this.history = new long[grid.getNumSlots()];
+    this.movesAtPly = new long[0][];
+    this.listAtPly = new int[0][];
+    this.keysAtPly = new long[0][];
+    this.killers = new int[0][];
+    this.pv = new int[0][];
+    this.pvLength = new int[0];
+  }
+
+  /**
+   * Searches every legal move of the current player to the given depth, looking for a score
+   * between alpha and beta. The principal variation's first move is tried first, so searching
+   * one depth deeper after another starts each search from the best line of the one before.
+   *
+   * @param depth the number of moves (and passes) to look ahead, at least 1.
+   * @param alpha the score below which the exact score does not matter.
+   * @param beta  the score above which the exact score does not matter.
+   * @return the index of the best move's tile, or -1 if the current player has no legal move or
+   *         the search ran out of time. If the score is not above alpha, the move is only the
+   *         best of moves that all scored too low, and the search should be repeated with a
+   *         lower alpha.
+   */
+  int searchRoot(int depth, int alpha, int beta) {
+    ensurePlies(depth + 1);
+    for (int[] pair : this.killers) {
+      Arrays.fill(pair, -1);
+    }
+    // old history still says which moves tend to be good, but should count for less than new
+    for (int i = 0; i < this.history.length; i++) {
+      this.history[i] >>= 1;
+    }
+    int firstMove = this.pvLength[0] > 0 ? this.pv[0][0] : -1;
+    this.aborted = false;
+    this.nodes += 1;
+    this.pvLength[0] = 0;
+    long[] moves = this.movesAtPly[0];
+    this.position.legalMoves(moves);
+    int bestMove = -1;
+    int best = -AlphaBetaSearch.INFINITY;
+    for (int i = -1; i < this.order.length; i++) {
+      int cell = i == -1 ? firstMove : this.order[i];
+      if (cell < 0 || (i != -1 && cell == firstMove)
+              || !LegalMoveGenerator.isSet(moves, cell)) {
+        continue;
+      }
+      this.position.makeMove(cell);
+      int score;
+      if (bestMove == -1) {
+        score = -search(depth - 1, -beta, -alpha, 1);
+      } else {
+        score = -search(depth - 1, -alpha - 1, -alpha, 1);
+        if (score > alpha && score < beta && !this.aborted) {
+          score = -search(depth - 1, -beta, -alpha, 1);
+        }
+      }
+      this.position.unmakeMove();
+      if (this.aborted) {
+        return -1;
+      }
+      // only a strictly better score replaces the best move, so ties go to the earliest tile in
+      // search order.
+      if (bestMove == -1 || score > best) {
+        bestMove = cell;
+        best = score;
+        updatePrincipalVariation(0, cell);
+        if (score > alpha) {
+          alpha = score;
+          if (alpha >= beta) {
+            break;
+          }
+        }
+      }
+    }
+    this.bestScore = best;
+    return bestMove;
+  }
+
+  /**
+   * Scores the current position for the current player by searching to the given depth.
+   *
+   * @param depth the number of moves left to look ahead.
+   * @param alpha the score the current player is already guaranteed elsewhere.
+   * @param beta  the score the opponent is already guaranteed elsewhere.
+   * @param ply   how many moves deep into the search this position is.
+   * @return the score of the position, exact if it falls strictly between alpha and beta.
+   */
+  private int search(int depth, int alpha, int beta, int ply) {
+    this.nodes += 1;
+    this.pvLength[ply] = ply;
+    if (outOfTime()) {
+      return 0; // the score is thrown away, so any value will do
+    }
+    if (this.position.isGameOver()) {
+      return AlphaBetaSearch.terminalScore(this.position);
+    }
+    if (depth <= 0) {
+      return this.evaluator.evaluate(this.position, this.position.getCurrentPlayer());
+    }
+    boolean nullWindow = beta - alpha == 1;
+    long key = 0;
+    int tableMove = -1;
+    if (this.table != null) {
+      key = this.position.getConsecutivePasses() > 0
+              ? this.position.getHash() ^ PASSED_KEY : this.position.getHash();
+      long entry = this.table.probe(key);
+      if (entry != TranspositionTable.MISS) {
+        tableMove = TranspositionTable.moveOf(entry);
+        // a cut off here would leave no principal variation, so only null windows take one
+        if (nullWindow && TranspositionTable.depthOf(entry) >= depth) {
+          int stored = TranspositionTable.scoreOf(entry);
+          int bound = TranspositionTable.boundOf(entry);
+          if (bound == TranspositionTable.EXACT
+                  || (bound == TranspositionTable.LOWER && stored >= beta)
+                  || (bound == TranspositionTable.UPPER && stored <= alpha)) {
+            return stored;
+          }
+        }
+      }
+    }
+    long[] moves = this.movesAtPly[ply];
+    this.position.legalMoves(moves);
+    if (LegalMoveGenerator.isEmpty(moves)) {
+      // a player with no legal move has to pass, which also counts as a ply of look-ahead
+      this.position.makePass();
+      int score = -search(depth - 1, -beta, -alpha, ply + 1);
+      this.position.unmakeMove();
+      if (!this.aborted) {
+        updatePrincipalVariation(ply, SearchPosition.PASS);
+        if (this.table != null) {
+          this.table.store(key, depth, boundOf(score, alpha, beta), score, -1);
+        }
+      }
+      return score;
+    }
+
+    int count = orderMoves(moves, ply, tableMove);
+    int alphaBefore = alpha;
+    int best = -AlphaBetaSearch.INFINITY;
+    int bestMove = -1;
+    for (int i = 0; i < count; i++) {
+      int cell = pickNext(ply, i, count);
+      this.position.makeMove(cell);
+      int score;
+      if (i == 0) {
+        score = -search(depth - 1, -beta, -alpha, ply + 1);
+      } else {
+        // a move after the first is most likely worse, which a null window proves quickly
+        score = -search(depth - 1, -alpha - 1, -alpha, ply + 1);
+        if (score > alpha && score < beta && !this.aborted) {
+          score = -search(depth - 1, -beta, -alpha, ply + 1);
+        }
+      }
+      this.position.unmakeMove();
+      if (this.aborted) {
+        return 0;
+      }
+      if (score > best) {
+        best = score;
+        bestMove = cell;
+        if (score > alpha) {
+          alpha = score;
+          updatePrincipalVariation(ply, cell);
+          if (alpha >= beta) {
+            addKiller(ply, cell);
+            this.history[cell] += (long) depth * depth;
+            break; // the opponent will never allow this position
+          }
+        }
+      }
+    }
+    if (this.table != null) {
+      this.table.store(key, depth, boundOf(best, alphaBefore, beta), best, bestMove);
+    }
+    return best;
+  }
+
+  // lists the legal moves at the ply with their ordering keys, and returns how many there are
+  private int orderMoves(long[] moves, int ply, int tableMove) {
+    int[] list = this.listAtPly[ply];
+    long[] keys = this.keysAtPly[ply];
+    int[] killer = this.killers[ply];
+    int count = 0;
+    for (int cell : this.order) {
+      if (!LegalMoveGenerator.isSet(moves, cell)) {
+        continue;
+      }
+      long key;
+      if (cell == tableMove) {
+        key = TABLE_MOVE_KEY;
+      } else if (cell == killer[0]) {
+        key = FIRST_KILLER_KEY;
+      } else if (cell == killer[1]) {
+        key = SECOND_KILLER_KEY;
+      } else {
+        key = this.history[cell];
+      }
+      list[count] = cell;
+      keys[count] = key;
+      count += 1;
+    }
+    return count;
+  }
+
+  // moves the best of the moves from the given position on into that position and returns it.
+  // picking one move at a time costs nothing for the moves a cut off means are never tried, and
+  // taking the first of equal keys keeps the corners-first order among them.
+  private int pickNext(int ply, int from, int count) {
+    int[] list = this.listAtPly[ply];
+    long[] keys = this.keysAtPly[ply];
+    int best = from;
+    for (int i = from + 1; i < count; i++) {
+      if (keys[i] > keys[best]) {
+        best = i;
+      }
+    }
+    int cell = list[best];
+    long key = keys[best];
+    // shift the skipped moves up one, rather than swapping, so they keep their order
+    System.arraycopy(list, from, list, from + 1, best - from);
+    System.arraycopy(keys, from, keys, from + 1, best - from);
+    list[from] = cell;
+    keys[from] = key;
+    return cell;
+  }
+
+  // remembers a move that cut off a node, unless it is already the first killer of its ply
+  private void addKiller(int ply, int cell) {
+    int[] killer = this.killers[ply];
+    if (killer[0] != cell) {
+      killer[1] = killer[0];
+      killer[0] = cell;
+    }
+  }
+
+  // makes the principal variation from the ply the given move followed by the one after it
+  private void updatePrincipalVariation(int ply, int move) {
+    this.pv[ply][ply] = move;
+    int end = this.pvLength[ply + 1];
+    System.arraycopy(this.pv[ply + 1], ply + 1, this.pv[ply], ply + 1, end - (ply + 1));
+    this.pvLength[ply] = Math.max(end, ply + 1);
+  }
+
+  // what the score a search returned says about the real score, given the window it searched
+  private static int boundOf(int score, int alpha, int beta) {
+    if (score <= alpha) {
+      return TranspositionTable.UPPER;
+    } else if (score >= beta) {
+      return TranspositionTable.LOWER;
+    }
+    return TranspositionTable.EXACT;
+  }
+
+  /**
+   * Gets the line the last completed searchRoot expects both players to play, as tile indices
+   * starting with the chosen move, with PASS for a pass.
+   *
+   * @return the principal variation.
+   */
+  int[] getPrincipalVariation() {
+    return Arrays.copyOf(this.pv[0], this.pvLength[0]);
+  }
+
+  /**
+   * Turns a principal variation into moves.
+   *
+   * @param grid the grid of the searched board.
+   * @param line tile indices, with PASS for a pass.
+   * @return the moves, in the same order.
+   */
+  static List<IPlayerMove> toMoves(HexGrid grid, int[] line) {
+    List<IPlayerMove> moves = new ArrayList<>();
+    for (int cell : line) {
+      moves.add(cell == SearchPosition.PASS ? new Pass()
+              : AlphaBetaStrategy.toMove(grid, cell).get());
+    }
+    return moves;
+  }
+
+  /**
+   * Has every later search stop once System.nanoTime() passes the given time.
+   *
+   * @param deadline the time to stop at, as given by System.nanoTime().
+   */
+  void setDeadline(long deadline) {
+    this.timed = true;
+    this.deadline = deadline;
+  }
+
+  /**
+   * Determines if the last call to searchRoot was stopped by the deadline before it finished.
+   *
+   * @return true if the last search is incomplete.
+   */
+  boolean isAborted() {
+    return this.aborted;
+  }
+
+  // checks the clock every so many nodes, and notes if the deadline has passed
+  private boolean outOfTime() {
+    if (!this.aborted && this.timed && (this.nodes & CLOCK_CHECK_MASK) == 0
+            && System.nanoTime() - this.deadline >= 0) {
+      this.aborted = true;
+    }
+    return this.aborted;
+  }
+
+  /**
+   * Gets the number of positions searched since this search was created.
+   *
+   * @return the node count.
+   */
+  long getNodes() {
+    return this.nodes;
+  }
+
+  /**
+   * Gets the score found by the last call to searchRoot, for the player who was to move.
+   *
+   * @return the best score, exact only if it is strictly between the alpha and beta searched.
+   */
+  int getBestScore() {
+    return this.bestScore;
+  }
+
+  // makes sure there are buffers for each of the given number of plies
+  private void ensurePlies(int plies) {
+    if (this.movesAtPly.length < plies + 1) {
+      int old = this.movesAtPly.length;
+      int cells = this.order.length;
+      this.movesAtPly = Arrays.copyOf(this.movesAtPly, plies + 1);
+      this.listAtPly = Arrays.copyOf(this.listAtPly, plies + 1);
+      this.keysAtPly = Arrays.copyOf(this.keysAtPly, plies + 1);
+      this.killers = Arrays.copyOf(this.killers, plies + 1);
+      int[][] grownPv = new int[plies + 1][plies + 1];
+      for (int i = 0; i < old; i++) {
+        System.arraycopy(this.pv[i], 0, grownPv[i], 0, this.pv[i].length);
+      }
+      this.pv = grownPv;
+      this.pvLength = Arrays.copyOf(this.pvLength, plies + 1);
+      for (int i = old; i <= plies; i++) {
+        this.movesAtPly[i] = new long[this.numWords];
+        this.listAtPly[i] = new int[cells];
+        this.keysAtPly[i] = new long[cells];
+        this.killers[i] = new int[] {-1, -1};
+      }
+    }
+  }
+}
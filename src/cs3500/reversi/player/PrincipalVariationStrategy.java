@@ -0,0 +1,157 @@
+package cs3500.reversi.player;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents a look-ahead strategy that, like IterativeDeepeningStrategy, searches one move deeper
+ * at a time until its time per move runs out, but with a principal variation search (see
+ * PrincipalVariationSearch), which searches fewer positions to reach the same depth.
+ *
+ * <p>Each depth after the first also starts with an aspiration window: since a deeper search
+ * usually scores close to the one before, it first only looks for a score near that one, which
+ * cuts off far more of the search. If the score turns out to be outside the window, the window is
+ * widened and the depth searched again.
+ *
+ * <p>The result reports the principal variation of the deepest search that finished, the line of
+ * play the strategy expects.
+ */
+public class PrincipalVariationStrategy implements IPlayerMoveStrategy {
+  // how far either side of the last score the first window at each depth reaches: a little less
+  // than a corner is worth to a WeightedTileEvaluator.
+  private static final int ASPIRATION_WINDOW = 16;
+  // how much a window grows each time the score falls outside it
+  private static final int WIDENING_FACTOR = 4;
+
+  private final long budgetNanos;
+  private final int maxDepth;
+  private final PositionEvaluator evaluator;
+  private final TranspositionTable table; // null if the strategy does not use one
+
+  /**
+   * Creates a strategy that searches as deep as it can in the given time per move, scoring
+   * positions with a WeightedTileEvaluator.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @throws IllegalArgumentException if the budget is not positive.
+   */
+  public PrincipalVariationStrategy(long budgetMillis) throws IllegalArgumentException {
+    this(budgetMillis, Integer.MAX_VALUE, new WeightedTileEvaluator(),
+            AlphaBetaStrategy.DEFAULT_TABLE_SIZE);
+  }
+
+  /**
+   * Creates a strategy that searches as deep as it can in the given time per move, up to the
+   * given depth, scoring positions with the given evaluator and remembering them in a
+   * transposition table of the given size.
+   *
+   * @param budgetMillis the time allowed for each move, in milliseconds.
+   * @param maxDepth     the deepest the strategy will search.
+   * @param evaluator    scores the positions where the search stops.
+   * @param tableSize    the number of entries in the table, a power of two no more than
+   *                     TranspositionTable.MAX_ENTRIES, or 0 for no table.
+   * @throws IllegalArgumentException if the budget or the depth is not positive, or the table
+   *                                  size is neither 0 nor a power of two, or is more than
+   *                                  TranspositionTable.MAX_ENTRIES.
+   */
+  public PrincipalVariationStrategy(long budgetMillis, int maxDepth, PositionEvaluator evaluator,
+                                    int tableSize) throws IllegalArgumentException {
+    if (budgetMillis <= 0) {
+      throw new IllegalArgumentException("Cannot search without any time");
+    }
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Cannot search less than one move ahead");
+    }
+    this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    this.maxDepth = maxDepth;
+    this.evaluator = Objects.requireNonNull(evaluator);
+    this.table = tableSize == 0 ? null : new TranspositionTable(tableSize);
+  }
+
+  @Override
+  public Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece) {
+    return search(model, piece).getMove();
+  }
+
+  /**
+   * Searches for the given player's best move within this strategy's time budget, and reports
+   * how deep the search got and the line of play it expects.
+   *
+   * @param model the model to search from.
+   * @param piece the piece the strategy is playing for.
+   * @return the chosen move along with its score, the depth reached, the nodes searched, and
+   *         the principal variation.
+   */
+  public SearchResult search(ReadOnlyReversiModel model, ReversiPiece piece) {
+    long start = System.nanoTime();
+    if (piece == null || piece != model.getCurrentPlayer()) {
+      return new SearchResult(Optional.empty(), 0, 0, 0);
+    }
+    SearchPosition position = new SearchPosition(model);
+    PrincipalVariationSearch search = new PrincipalVariationSearch(position, this.evaluator,
+            this.table);
+    // the first search is always allowed to finish, so there is always a move to play.
+    int best = search.searchRoot(1, -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY);
+    int score = search.getBestScore();
+    int[] line = search.getPrincipalVariation();
+    int reached = 1;
+    int limit = IterativeDeepeningStrategy.depthLimit(position, this.maxDepth);
+    search.setDeadline(start + this.budgetNanos);
+    while (best != -1 && reached < limit && Math.abs(score) < AlphaBetaSearch.WIN_SCORE
+            && System.nanoTime() - start < this.budgetNanos / 2) {
+      int next = searchWithAspiration(search, reached + 1, score);
+      if (search.isAborted()) {
+        break;
+      }
+      best = next;
+      score = search.getBestScore();
+      line = search.getPrincipalVariation();
+      reached += 1;
+    }
+    List<IPlayerMove> moves = PrincipalVariationSearch.toMoves(position.getGrid(), line);
+    return new SearchResult(AlphaBetaStrategy.toMove(position.getGrid(), best), score, reached,
+            search.getNodes(), moves);
+  }
+
+  // searches to the given depth in a window around the given score, widening it until the score
+  // found is inside it
+  private static int searchWithAspiration(PrincipalVariationSearch search, int depth,
+                                          int guess) {
+    int delta = ASPIRATION_WINDOW;
+    int alpha = guess - delta;
+    int beta = guess + delta;
+    while (true) {
+      int move = search.searchRoot(depth, alpha, beta);
+      int found = search.getBestScore();
+      if (search.isAborted() || (found > alpha && found < beta)) {
+        return move;
+      }
+      delta *= WIDENING_FACTOR;
+      if (delta >= AlphaBetaSearch.WIN_SCORE) {
+        // the score is far from the guess, or a won or lost game, so look everywhere
+        alpha = -AlphaBetaSearch.INFINITY;
+        beta = AlphaBetaSearch.INFINITY;
+      } else if (found <= alpha) {
+        alpha = found - delta;
+      } else {
+        beta = found + delta;
+      }
+    }
+  }
+
+  /**
+   * Gets the table this strategy remembers searched positions in, for instance to see its hit
+   * rate.
+   *
+   * @return the table, or empty if this strategy was created without one.
+   */
+  public Optional<TranspositionTable> getTranspositionTable() {
+    return Optional.ofNullable(this.table);
+  }
+}
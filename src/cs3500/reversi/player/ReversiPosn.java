@@ -2,11 +2,13 @@ package cs3500.reversi.player;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 
+import cs3500.reversi.model.MoveAnalysis;
+
 /**
  * A Function Object that indicates moving a piece to a certain position, a type of move that a
  * player can make.
@@ -78,9 +80,111 @@ public class ReversiPosn {
     }
   }
 
+  /**
+   * Given the analysis of a player's valid moves, returns the move that gains the most tiles (if
+   * there is one), breaking ties the same way as findBestMove on a map of moves.
+   *
+   * <p>That tie-break depends on the order the map hands out its moves, so rather than fill a
+   * map, this visits the tied moves in the order a HashMap of every analyzed move would: by hash
+   * bucket, and in the order the moves were put in within a bucket. A HashMap only strays from
+   * that order once nine moves share a bucket (it turns the bucket into a tree), so in that rare
+   * case the moves are put into a map after all.
+   *
+   * @param analysis the analysis of the valid moves to choose from.
+   * @return the best destination to move to out of the analyzed moves, ONLY IF the analysis found
+   *                    at least one valid move.
+   */
+  public static Optional<IPlayerMove> findBestMove(MoveAnalysis analysis) {
+    int size = analysis.size();
+    if (size == 0) {
+      return Optional.empty();
+    }
+    int max = analysis.getTilesGained(0);
+    for (int i = 1; i < size; i++) {
+      max = Math.max(max, analysis.getTilesGained(i));
+    }
+    if (crowdsBucket(analysis)) {
+      return findBestMove(toMap(analysis));
+    }
+    int buckets = MIN_BUCKETS;
+    while (size > buckets / 4 * 3) {
+      buckets *= 2; // HashMap doubles its table once it is three quarters full
+    }
+    // the tied moves one at a time by (bucket, index), updating the uppermost-leftmost as
+    // findUppermostLeftmostPosition does
+    int best = -1;
+    long previous = -1;
+    while (true) {
+      int next = -1;
+      long nextKey = Long.MAX_VALUE;
+      for (int i = 0; i < size; i++) {
+        if (analysis.getTilesGained(i) == max) {
+          long key = (long) bucket(analysis, i, buckets) * size + i;
+          if (key > previous && key < nextKey) {
+            next = i;
+            nextKey = key;
+          }
+        }
+      }
+      if (next == -1) {
+        break;
+      }
+      if (best == -1 || (analysis.getQ(next) <= analysis.getQ(best)
+              && analysis.getR(next) < analysis.getR(best))) {
+        best = next;
+      }
+      previous = nextKey;
+    }
+    return Optional.of(new Move(new ReversiPosn(analysis.getQ(best), analysis.getR(best),
+            analysis.getS(best))));
+  }
+
+  // the size a HashMap's table starts at, and the most entries a bucket holds before HashMap
+  // turns it into a tree
+  private static final int MIN_BUCKETS = 16;
+  private static final int MAX_BUCKET_LIST = 8;
+
+  // the bucket of a table with the given number of buckets that a HashMap puts the analyzed move
+  // with the given index in
+  private static int bucket(MoveAnalysis analysis, int i, int buckets) {
+    int h = hash(analysis.getQ(i), analysis.getR(i), analysis.getS(i));
+    return (h ^ (h >>> 16)) & (buckets - 1);
+  }
+
+  // whether more moves share a bucket of the smallest table than HashMap keeps in a list; a
+  // bigger table only splits buckets, so this is the only table to check
+  private static boolean crowdsBucket(MoveAnalysis analysis) {
+    for (int b = 0; b < MIN_BUCKETS; b++) {
+      int count = 0;
+      for (int i = 0; i < analysis.size(); i++) {
+        if (bucket(analysis, i, MIN_BUCKETS) == b) {
+          count += 1;
+        }
+      }
+      if (count > MAX_BUCKET_LIST) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Map<ReversiPosn, Integer> toMap(MoveAnalysis analysis) {
+    Map<ReversiPosn, Integer> possibleMoves = new HashMap<>();
+    for (int i = 0; i < analysis.size(); i++) {
+      possibleMoves.put(new ReversiPosn(analysis.getQ(i), analysis.getR(i), analysis.getS(i)),
+              analysis.getTilesGained(i));
+    }
+    return possibleMoves;
+  }
+
+  // the same hash as Objects.hash(q, r, s), without boxing
+  private static int hash(int q, int r, int s) {
+    return ((31 + q) * 31 + r) * 31 + s;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(this.q, this.r, this.s);
+    return hash(this.q, this.r, this.s);
   }
 
 
@@ -0,0 +1,109 @@
+package cs3500.reversi.player;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents what a look-ahead search found: the move it chose (if any), the score of that move
+ * for the player who searched, how many moves ahead the last completed search looked, and how many
+ * positions were searched in total. A search that tracks it also reports its principal variation:
+ * the line of play it expects, starting with the chosen move, if both players play their best.
+ */
+public final class SearchResult {
+  private final Optional<IPlayerMove> move;
+  private final int score;
+  private final int depth;
+  private final long nodes;
+  private final List<IPlayerMove> principalVariation;
+
+  /**
+   * Creates a search result.
+   *
+   * @param move  the chosen move, or empty if there was no move to make.
+   * @param score the score of the chosen move, for the player who searched.
+   * @param depth the depth of the last completed search.
+   * @param nodes the number of positions searched.
+   */
+  public SearchResult(Optional<IPlayerMove> move, int score, int depth, long nodes) {
+    this(move, score, depth, nodes, List.of());
+  }
+
+  /**
+   * Creates a search result with the line of play the search expects.
+   *
+   * @param move               the chosen move, or empty if there was no move to make.
+   * @param score              the score of the chosen move, for the player who searched.
+   * @param depth              the depth of the last completed search.
+   * @param nodes              the number of positions searched.
+   * @param principalVariation the expected line of play, starting with the chosen move.
+   */
+  public SearchResult(Optional<IPlayerMove> move, int score, int depth, long nodes,
+                      List<IPlayerMove> principalVariation) {
+    this.move = Objects.requireNonNull(move);
+    this.score = score;
+    this.depth = depth;
+    this.nodes = nodes;
+    this.principalVariation = List.copyOf(principalVariation);
+  }
+
+  /**
+   * Gets the chosen move.
+   *
+   * @return the move, or empty if there was no move to make.
+   */
+  public Optional<IPlayerMove> getMove() {
+    return this.move;
+  }
+
+  /**
+   * Gets the score of the chosen move, for the player who searched.
+   *
+   * @return the score.
+   */
+  public int getScore() {
+    return this.score;
+  }
+
+  /**
+   * Gets the number of moves ahead the last completed search looked.
+   *
+   * @return the depth reached.
+   */
+  public int getDepth() {
+    return this.depth;
+  }
+
+  /**
+   * Gets the number of positions searched, including any search that ran out of time.
+   *
+   * @return the node count.
+   */
+  public long getNodes() {
+    return this.nodes;
+  }
+
+  /**
+   * Gets the line of play the search expects if both players play their best, starting with the
+   * chosen move. It may be shorter than the depth searched (for instance where the game ends), and
+   * is empty if the search did not track it.
+   *
+   * @return the principal variation, which cannot be modified.
+   */
+  public List<IPlayerMove> getPrincipalVariation() {
+    return this.principalVariation;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder("depth " + this.depth + ", " + this.nodes
+            + " nodes, score " + this.score);
+    if (!this.principalVariation.isEmpty()) {
+      result.append(", pv");
+      for (IPlayerMove step : this.principalVariation) {
+        result.append(" ").append(step);
+      }
+    }
+    return result.toString();
+  }
+}
@@ -0,0 +1,207 @@
+package cs3500.reversi.player;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents a fixed-size table of positions a search has already scored, keyed by their 64-bit
+ * Zobrist hash, so that a position reached again (on hex boards, flips commute and many move
+ * orders lead to the same position) is not searched twice. Each entry packs the depth searched,
+ * whether the score is exact or only a bound, the score, and the best move into one long.
+ *
+ * <p>Any number of search threads can share one table without locks. An entry is written as two
+ * words, the data and the data XORed with the hash, and a read only counts as a hit if XORing them
+ * back gives the hash being looked up; an entry torn by two threads writing at once simply reads
+ * as a miss. Entries are never removed, only replaced, so the table never grows past its size.
+ */
+public final class TranspositionTable {
+  /**
+   * The bound of an entry whose score is exact.
+   */
+  public static final int EXACT = 1;
+  /**
+   * The bound of an entry whose real score is at least its score.
+   */
+  public static final int LOWER = 2;
+  /**
+   * The bound of an entry whose real score is at most its score.
+   */
+  public static final int UPPER = 3;
+  /**
+   * What probe returns when the table holds no entry for a hash.
+   */
+  public static final long MISS = 0L;
+
+  /**
+   * The most entries a table can have, 2^29, as two slots per entry must fit in one array.
+   */
+  public static final int MAX_ENTRIES = 1 << 29;
+
+  // the layout of an entry's data: the score in the low 32 bits, then 16 bits of best move, 8 of
+  // depth, and 2 of bound. the bound of a stored entry is never 0, so no stored data equals MISS.
+  private static final int MOVE_SHIFT = 32;
+  private static final int DEPTH_SHIFT = 48;
+  private static final int BOUND_SHIFT = 56;
+  private static final int NO_MOVE = 0xFFFF;
+
+  private final AtomicLongArray slots; // two slots per entry: data ^ hash, then data
+  private final int mask; // the number of entries minus one
+  private final LongAdder probes = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * Creates an empty table with room for the given number of entries.
+   *
+   * @param entries the number of entries, which must be a power of two no more than MAX_ENTRIES.
+   * @throws IllegalArgumentException if the number of entries is not a positive power of two, or
+   *                                  is more than MAX_ENTRIES.
+   */
+  public TranspositionTable(int entries) throws IllegalArgumentException {
+    if (entries <= 0 || Integer.bitCount(entries) != 1) {
+      throw new IllegalArgumentException("Table size must be a power of two");
+    }
+    if (entries > MAX_ENTRIES) {
+      throw new IllegalArgumentException("Table size cannot be more than 2^29 entries");
+    }
+    this.slots = new AtomicLongArray(2 * entries);
+    this.mask = entries - 1;
+  }
+
+  /**
+   * Gets the number of entries this table has room for.
+   *
+   * @return the size of the table.
+   */
+  public int size() {
+    return this.mask + 1;
+  }
+
+  /**
+   * Looks up the entry for the given hash.
+   *
+   * @param hash the hash of a position.
+   * @return the entry's data (see scoreOf, moveOf, depthOf, and boundOf), or MISS if there is none.
+   */
+  public long probe(long hash) {
+    this.probes.increment();
+    int slot = slotOf(hash);
+    long data = this.slots.getOpaque(slot + 1);
+    if (data != MISS && (this.slots.getOpaque(slot) ^ data) == hash) {
+      this.hits.increment();
+      return data;
+    }
+    return MISS;
+  }
+
+  /**
+   * Records what a search found for the position with the given hash. An entry already there for
+   * the same position is only replaced by a search at least as deep; an entry for a different
+   * position is always replaced.
+   *
+   * @param hash  the hash of the position.
+   * @param depth the depth the position was searched to (0 to 255).
+   * @param bound EXACT, LOWER, or UPPER.
+   * @param score the score found.
+   * @param move  the index of the best move's tile, or -1 if there is none.
+   */
+  public void store(long hash, int depth, int bound, int score, int move) {
+    int slot = slotOf(hash);
+    long old = this.slots.getOpaque(slot + 1);
+    if (old != MISS && (this.slots.getOpaque(slot) ^ old) == hash && depthOf(old) > depth) {
+      return;
+    }
+    long data = (score & 0xFFFF_FFFFL)
+            | ((long) (move < 0 ? NO_MOVE : move) << MOVE_SHIFT)
+            | ((long) Math.min(depth, 255) << DEPTH_SHIFT)
+            | ((long) bound << BOUND_SHIFT);
+    this.slots.setOpaque(slot, data ^ hash);
+    this.slots.setOpaque(slot + 1, data);
+  }
+
+  /**
+   * Gets the score stored in an entry.
+   *
+   * @param data an entry returned by probe.
+   * @return the score.
+   */
+  public static int scoreOf(long data) {
+    return (int) data;
+  }
+
+  /**
+   * Gets the best move stored in an entry.
+   *
+   * @param data an entry returned by probe.
+   * @return the index of the best move's tile, or -1 if there is none.
+   */
+  public static int moveOf(long data) {
+    int move = (int) (data >>> MOVE_SHIFT) & 0xFFFF;
+    return move == NO_MOVE ? -1 : move;
+  }
+
+  /**
+   * Gets the depth stored in an entry.
+   *
+   * @param data an entry returned by probe.
+   * @return the depth the position was searched to.
+   */
+  public static int depthOf(long data) {
+    return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+  }
+
+  /**
+   * Gets the bound stored in an entry.
+   *
+   * @param data an entry returned by probe.
+   * @return EXACT, LOWER, or UPPER.
+   */
+  public static int boundOf(long data) {
+    return (int) (data >>> BOUND_SHIFT) & 0x3;
+  }
+
+  /**
+   * Gets the number of lookups made since the table was created or last cleared.
+   *
+   * @return the number of probes.
+   */
+  public long getProbes() {
+    return this.probes.sum();
+  }
+
+  /**
+   * Gets the number of lookups that found an entry since the table was created or last cleared.
+   *
+   * @return the number of hits.
+   */
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Gets the fraction of lookups that found an entry.
+   *
+   * @return the hit rate, from 0 to 1 (0 if there have been no lookups).
+   */
+  public double getHitRate() {
+    long probed = getProbes();
+    return probed == 0 ? 0.0 : (double) getHits() / probed;
+  }
+
+  /**
+   * Removes every entry and resets the counts of lookups and hits. This must not be called while
+   * a search is using the table.
+   */
+  public void clear() {
+    for (int i = 0; i < this.slots.length(); i++) {
+      this.slots.setOpaque(i, 0L);
+    }
+    this.probes.reset();
+    this.hits.reset();
+  }
+
+  // the first slot of the entry for the given hash. the low bits pick the entry; mixing in the
+  // high bits keeps hashes that only differ there from always sharing an entry.
+  private int slotOf(long hash) {
+    return (int) ((hash ^ (hash >>> 32)) & this.mask) << 1;
+  }
+}
@@ -0,0 +1,62 @@
+package cs3500.reversi.player;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Represents an evaluator that scores a position by the player's discs minus the opponent's,
+ * where each disc is weighted by its tile: corners (see PlayCornersStrategy) are worth the most,
+ * since they can never be flipped back, and tiles bordering a corner (see
+ * AvoidNextToCornersStrategy) count against whoever holds them, since they hand the corner to the
+ * opponent.
+ */
+public class WeightedTileEvaluator implements PositionEvaluator {
+  private static final int CORNER_WEIGHT = 20;
+  private static final int BORDERING_CORNER_WEIGHT = -6;
+  private static final int TILE_WEIGHT = 1;
+
+  // the weight of every tile, by index, for each board size seen so far.
+  private static final Map<Integer, int[]> WEIGHTS = new ConcurrentHashMap<>();
+
+  @Override
+  public int evaluate(SearchPosition position, ReversiPiece piece) {
+    HexGrid grid = position.getGrid();
+    int[] weights = WEIGHTS.computeIfAbsent(grid.getHexSideLength(),
+        n -> weightsFor(HexGrid.of(n)));
+    int score = 0;
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int cell = grid.getCell(i);
+      ReversiPiece p = position.getPieceAt(cell);
+      if (p == piece) {
+        score += weights[cell];
+      } else if (p != ReversiPiece.EMPTY) {
+        score -= weights[cell];
+      }
+    }
+    return score;
+  }
+
+  // works out the weight of every tile of the given grid
+  private static int[] weightsFor(HexGrid grid) {
+    int[] weights = new int[grid.getNumSlots()];
+    int n = grid.getHexSideLength();
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int cell = grid.getCell(i);
+      int q = grid.getQ(cell);
+      int r = grid.getR(cell);
+      int s = grid.getS(cell);
+      if (PlayCornersStrategy.isCornerPosition(q, r, s, n)) {
+        weights[cell] = CORNER_WEIGHT;
+      } else if (AvoidNextToCornersStrategy.isBorderingCorner(q, r, s, n)) {
+        weights[cell] = BORDERING_CORNER_WEIGHT;
+      } else {
+        weights[cell] = TILE_WEIGHT;
+      }
+    }
+    return weights;
+  }
+}
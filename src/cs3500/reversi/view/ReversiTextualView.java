@@ -1,5 +1,6 @@
 package cs3500.reversi.view;
 
+import cs3500.reversi.model.HexGrid;
 import cs3500.reversi.model.ReversiModel;
 import cs3500.reversi.model.ReversiPiece;
 import cs3500.reversi.model.Tile;
@@ -31,6 +32,7 @@ public class ReversiTextualView implements SimpleReversiView {
   public String toString() {
     StringBuilder sb = new StringBuilder();
     int hexSideLength = model.getHexSideLength();
+    HexGrid grid = HexGrid.of(hexSideLength);
 
     // iterate through rows based on hexagonal cubic coordinates.
     for (int r = -hexSideLength + 1; r < hexSideLength; r++) {
@@ -41,7 +43,7 @@ public class ReversiTextualView implements SimpleReversiView {
 
       // iterate through cols based on hexagonal cubic coordinates.
       for (int q = qStart; q <= qEnd; q++) {
-        Tile t = new Tile(q, r, -q - r);
+        Tile t = grid.getTile(grid.indexOf(q, r, -q - r));
         ReversiPiece piece = model.getPieceAt(t); // get the piece at the specified tile
         if (piece == ReversiPiece.WHITE
                 || piece == ReversiPiece.EMPTY
@@ -0,0 +1,121 @@
+package cs3500.reversi;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import cs3500.reversi.model.ReadOnlyReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.player.AlphaBetaStrategy;
+import cs3500.reversi.player.CaptureMostStrategy;
+import cs3500.reversi.player.EndgameStrategy;
+import cs3500.reversi.player.HumanStrategy;
+import cs3500.reversi.player.IPlayerMove;
+import cs3500.reversi.player.IPlayerMoveStrategy;
+import cs3500.reversi.player.ManyStrategy;
+import cs3500.reversi.player.PlayCornersStrategy;
+
+/**
+ * Test Suite for testing the headless Tournament.
+ */
+public class TestTournament {
+
+  @Test
+  public void testPlaysEveryGame() {
+    TournamentResult result = new Tournament(CaptureMostStrategy::new, PlayCornersStrategy::new,
+            5, 2, 4, 1).play(41);
+    Assert.assertEquals(41, result.getGames());
+    Assert.assertEquals(41, result.getWins() + result.getLosses() + result.getDraws());
+    Assert.assertTrue(result.getAverageFirstScore() > 0);
+    Assert.assertTrue(result.getAverageSecondScore() > 0);
+    Assert.assertTrue(result.getGamesPerSecond() > 0);
+  }
+
+  @Test
+  public void testMirrorMatchIsEven() {
+    // each opening is played once with each color, so a strategy wins exactly as often as it
+    // loses against itself
+    TournamentResult result = new Tournament(CaptureMostStrategy::new, CaptureMostStrategy::new,
+            6, 3, 6, 2).play(60);
+    Assert.assertEquals(result.getWins(), result.getLosses());
+    Assert.assertEquals(result.getAverageFirstScore(), result.getAverageSecondScore(), 1e-9);
+  }
+
+  @Test
+  public void testSameOutcomeOnAnyNumberOfThreads() {
+    String one = outcome(new Tournament(() -> new AlphaBetaStrategy(2), CaptureMostStrategy::new,
+            4, 1, 4, 3).play(30));
+    String four = outcome(new Tournament(() -> new AlphaBetaStrategy(2), CaptureMostStrategy::new,
+            4, 4, 4, 3).play(30));
+    Assert.assertEquals(one, four);
+  }
+
+  // the result without the time it took
+  private static String outcome(TournamentResult result) {
+    return result.getWins() + " " + result.getLosses() + " " + result.getDraws() + " "
+            + result.getAverageFirstScore() + " " + result.getAverageSecondScore();
+  }
+
+  @Test
+  public void testStrategiesFromCommandLineNames() {
+    String[] players = {"manystrategy", "2", "strategy3", "strategy1", "alphabeta", "2"};
+    TournamentResult result = Tournament.fromCommandLine(players, 4, 2, 2, 4).play(10);
+    Assert.assertEquals(10, result.getGames());
+    String[] parallel = {"parallel", "2", "smp", "5"};
+    Assert.assertEquals(6, Tournament.fromCommandLine(parallel, 4, 3, 2, 4).play(6).getGames());
+  }
+
+  @Test
+  public void testClosesEveryStrategy() {
+    // every thread makes one strategy of each kind, and closes it once the games run out
+    AtomicInteger made = new AtomicInteger();
+    AtomicInteger closed = new AtomicInteger();
+    Supplier<IPlayerMoveStrategy> counted = () -> {
+      made.incrementAndGet();
+      IPlayerMoveStrategy strategy = new CaptureMostStrategy();
+      return new IPlayerMoveStrategy() {
+        @Override
+        public Optional<IPlayerMove> playStrategy(ReadOnlyReversiModel model, ReversiPiece piece) {
+          return strategy.playStrategy(model, piece);
+        }
+
+        @Override
+        public void close() {
+          closed.incrementAndGet();
+        }
+      };
+    };
+    new Tournament(counted, counted, 4, 3, 2, 6).play(12);
+    Assert.assertEquals(6, made.get());
+    Assert.assertEquals(6, closed.get());
+  }
+
+  @Test
+  public void testParsesOneStrategyAtATime() {
+    String[] players = {"endgame", "8", "alphabeta", "2", "manystrategy", "2", "strategy3",
+        "strategy1"};
+    Assert.assertEquals(4, ReversiArgParser.parsePlayers(players, 1).getStrategy2Index());
+    Assert.assertTrue(ReversiArgParser.parseStrategy(players, 0, 1) instanceof EndgameStrategy);
+    Assert.assertTrue(ReversiArgParser.parseStrategy(players, 4, 1) instanceof ManyStrategy);
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> ReversiArgParser.parsePlayers(players, -1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoHumans() {
+    new Tournament(HumanStrategy::new, CaptureMostStrategy::new, 4, 2, 0, 5).play(2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoThreads() {
+    new Tournament(CaptureMostStrategy::new, CaptureMostStrategy::new, 4, 0, 0, 5);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeGames() {
+    new Tournament(CaptureMostStrategy::new, CaptureMostStrategy::new, 4, 1, 0, 5).play(-1);
+  }
+}
@@ -0,0 +1,124 @@
+package cs3500.reversi.controller;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.player.CaptureMostStrategy;
+import cs3500.reversi.player.Player;
+import cs3500.reversi.player.Strategy;
+import cs3500.reversi.view.ReversiView;
+
+/**
+ * Test Suite for testing the DispatchQueue, and controllers that handle the model's notifications
+ * through one.
+ */
+public class TestDispatchQueue {
+
+  /**
+   * A view with no window, that records the deepest stack it was updated from and every message
+   * it was given.
+   */
+  private static final class StackDepthView implements ReversiView {
+    private int deepestStack;
+    private final List<String> messages = new ArrayList<>();
+
+    @Override
+    public void addPlayerActionListener(PlayerActionFeatures listener) {
+      // nothing to listen to
+    }
+
+    @Override
+    public void update() {
+      this.deepestStack = Math.max(this.deepestStack,
+              Thread.currentThread().getStackTrace().length);
+    }
+
+    @Override
+    public void displayMessage(String message) {
+      this.messages.add(message);
+    }
+
+    @Override
+    public void displayTitle(String titleMessage) {
+      // nothing to show
+    }
+  }
+
+  // plays a whole game between two AI players, and returns the view of the first
+  private static StackDepthView playGame(int hexSideLength, DispatchQueue events) {
+    ReversiModel model = new ReversiGameModel(hexSideLength);
+    StackDepthView view = new StackDepthView();
+    Player black = new Player(new Strategy(new CaptureMostStrategy()), ReversiPiece.BLACK);
+    Player white = new Player(new Strategy(new CaptureMostStrategy()), ReversiPiece.WHITE);
+    if (events == null) {
+      new ReversiController(model, black, view);
+      new ReversiController(model, white, new StackDepthView());
+    } else {
+      new ReversiController(model, black, view, events);
+      new ReversiController(model, white, new StackDepthView(), events);
+    }
+    model.startGame();
+    Assert.assertTrue(model.isGameOver());
+    return view;
+  }
+
+  @Test
+  public void testQueuedGameHasConstantStackDepth() {
+    int small = playGame(4, new DispatchQueue()).deepestStack;
+    int large = playGame(12, new DispatchQueue()).deepestStack;
+    Assert.assertEquals(small, large);
+    // while handling notifications as they arrive goes deeper every turn
+    Assert.assertTrue(playGame(12, null).deepestStack > large);
+  }
+
+  @Test
+  public void testQueuedGameEndsLikeDirectGame() {
+    StackDepthView direct = playGame(7, null);
+    StackDepthView queued = playGame(7, new DispatchQueue());
+    Assert.assertEquals(1, queued.messages.size());
+    Assert.assertEquals(direct.messages, queued.messages);
+  }
+
+  @Test
+  public void testEventsRunInOrderAfterEachOther() {
+    DispatchQueue events = new DispatchQueue();
+    StringBuilder log = new StringBuilder();
+    events.dispatch(() -> {
+      log.append("a(");
+      events.dispatch(() -> log.append("b "));
+      events.dispatch(() -> {
+        log.append("c(");
+        events.dispatch(() -> log.append("e "));
+        log.append(") ");
+      });
+      events.dispatch(() -> log.append("d "));
+      log.append(") ");
+    });
+    Assert.assertEquals("a() b c() d e ", log.toString());
+    Assert.assertEquals(0, events.size());
+  }
+
+  @Test
+  public void testFailedEventDropsTheRest() {
+    DispatchQueue events = new DispatchQueue();
+    StringBuilder log = new StringBuilder();
+    try {
+      events.dispatch(() -> {
+        events.dispatch(() -> log.append("dropped"));
+        throw new IllegalStateException("failed");
+      });
+      Assert.fail("The event's exception should be thrown");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("failed", e.getMessage());
+    }
+    Assert.assertEquals(0, events.size());
+    events.dispatch(() -> log.append("runs"));
+    Assert.assertEquals("runs", log.toString());
+  }
+}
@@ -0,0 +1,207 @@
+package cs3500.reversi.controller;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import cs3500.reversi.model.GameStatus;
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.player.AlphaBetaStrategy;
+import cs3500.reversi.player.CaptureMostStrategy;
+import cs3500.reversi.player.HumanStrategy;
+import cs3500.reversi.player.Player;
+import cs3500.reversi.player.Strategy;
+
+/**
+ * Test Suite for testing the GameScheduler and the matches it hosts.
+ */
+public class TestGameScheduler {
+
+  private static Player ai(ReversiPiece piece) {
+    return new Player(new Strategy(new CaptureMostStrategy()), piece);
+  }
+
+  private static Player human(ReversiPiece piece) {
+    return new Player(new Strategy(new HumanStrategy()), piece);
+  }
+
+  @Test
+  public void testManyMatchesAtOnce() throws Exception {
+    try (GameScheduler scheduler = new GameScheduler()) {
+      List<Match> matches = new ArrayList<>();
+      for (int i = 0; i < 500; i++) {
+        matches.add(scheduler.schedule(new ReversiGameModel(3 + i % 5), ai(ReversiPiece.BLACK),
+                new Player(new Strategy(new AlphaBetaStrategy(1)), ReversiPiece.WHITE)));
+      }
+      for (Match match : matches) {
+        GameStatus status = match.getResult().get(30, TimeUnit.SECONDS);
+        Assert.assertNotEquals(GameStatus.PLAYING, status);
+        Assert.assertTrue(match.getModel().isGameOver());
+      }
+      Assert.assertEquals(0, scheduler.getActiveMatches());
+    }
+  }
+
+  @Test
+  public void testLongGameKeepsStackShallow() throws Exception {
+    // a big board plays many turns, which the loop must play without growing its stack
+    try (GameScheduler scheduler = new GameScheduler(task -> new Thread(null, task, "small",
+            64 * 1024))) {
+      Match match = scheduler.schedule(new ReversiGameModel(12), ai(ReversiPiece.BLACK),
+              ai(ReversiPiece.WHITE));
+      Assert.assertNotEquals(GameStatus.PLAYING, match.getResult().get(30, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  public void testHumanMoves() throws Exception {
+    try (GameScheduler scheduler = new GameScheduler()) {
+      Match match = scheduler.schedule(new ReversiGameModel(4), human(ReversiPiece.BLACK),
+              ai(ReversiPiece.WHITE));
+      // it is black's turn, so white cannot move, and black cannot move somewhere illegal
+      assertRejected(match.submitPass(ReversiPiece.WHITE));
+      assertRejected(match.submitMove(ReversiPiece.BLACK, 0, 0, 0));
+      // black's legal opening move is played, and then the game goes on
+      match.submitMove(ReversiPiece.BLACK, 1, -2, 1).get(5, TimeUnit.SECONDS);
+      while (!match.getResult().isDone()) {
+        try {
+          match.submitPass(ReversiPiece.BLACK).get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+          break; // the game ended before black's pass was played
+        }
+      }
+      Assert.assertNotEquals(GameStatus.PLAYING, match.getResult().get(5, TimeUnit.SECONDS));
+      assertRejected(match.submitPass(ReversiPiece.BLACK));
+    }
+  }
+
+  // checks that the human action was not played
+  private static void assertRejected(Future<Void> action)
+          throws InterruptedException, TimeoutException {
+    try {
+      action.get(5, TimeUnit.SECONDS);
+      Assert.fail("Action should have been rejected");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof IllegalArgumentException
+              || e.getCause() instanceof IllegalStateException);
+    }
+  }
+
+  @Test
+  public void testActionsFromView() throws Exception {
+    ReversiGameModel model = new ReversiGameModel(4);
+    // what black's tile held when white's first turn began, read on the match's own thread
+    List<ReversiPiece> afterFirstMove = new ArrayList<>();
+    model.addModelStatusListener(new ModelStatusFeatures() {
+      @Override
+      public void handlePlayerChange(ReversiPiece currPlayer) {
+        if (currPlayer == ReversiPiece.WHITE && afterFirstMove.isEmpty()) {
+          afterFirstMove.add(model.getPieceAt(1, -2, 1));
+        }
+      }
+
+      @Override
+      public void handleGameOver() {
+        // nothing to record
+      }
+    });
+    try (GameScheduler scheduler = new GameScheduler()) {
+      Match match = scheduler.schedule(model, human(ReversiPiece.BLACK), ai(ReversiPiece.WHITE));
+      PlayerActionFeatures view = match.actionsFor(ReversiPiece.BLACK);
+      view.handleTileClicked(1, -2, 1);
+      view.handleMoveChosen(1, -2, 1);
+      while (!match.getResult().isDone()) {
+        try {
+          match.submitPass(ReversiPiece.BLACK).get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+          break;
+        }
+      }
+      match.getResult().get(5, TimeUnit.SECONDS);
+      Assert.assertEquals(List.of(ReversiPiece.BLACK), afterFirstMove);
+    }
+  }
+
+  @Test
+  public void testCancelWaitingMatch() throws Exception {
+    GameScheduler scheduler = new GameScheduler();
+    Match match = scheduler.schedule(new ReversiGameModel(4), human(ReversiPiece.BLACK),
+            human(ReversiPiece.WHITE));
+    scheduler.close();
+    try {
+      match.getResult().get(5, TimeUnit.SECONDS);
+      Assert.fail("Match should have been cancelled");
+    } catch (CancellationException e) {
+      // cancelled
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testClosedSchedulerAcceptsNoMatches() {
+    GameScheduler scheduler = new GameScheduler();
+    scheduler.close();
+    scheduler.schedule(new ReversiGameModel(4), ai(ReversiPiece.BLACK), ai(ReversiPiece.WHITE));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPlayersMustPlayTheirColors() {
+    try (GameScheduler scheduler = new GameScheduler()) {
+      scheduler.schedule(new ReversiGameModel(4), ai(ReversiPiece.WHITE), ai(ReversiPiece.BLACK));
+    }
+  }
+
+  @Test
+  public void testMatchSettlesWhenPlayerThrowsError() throws Exception {
+    CountDownLatch thinking = new CountDownLatch(1);
+    CountDownLatch fail = new CountDownLatch(1);
+    Player failing = new Player(new Strategy((model, piece) -> {
+      thinking.countDown();
+      try {
+        fail.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      throw new StackOverflowError();
+    }), ReversiPiece.BLACK);
+    // the error still reaches the thread, so keep it from being printed
+    GameScheduler scheduler = new GameScheduler(task -> {
+      Thread thread = new Thread(task);
+      thread.setUncaughtExceptionHandler((t, e) -> { });
+      return thread;
+    });
+    Match match = scheduler.schedule(new ReversiGameModel(4), failing, human(ReversiPiece.WHITE));
+    Assert.assertTrue(thinking.await(5, TimeUnit.SECONDS));
+    Future<Void> waiting = match.submitPass(ReversiPiece.WHITE);
+    fail.countDown();
+    try {
+      match.getResult().get(5, TimeUnit.SECONDS);
+      Assert.fail("Match should have failed");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof StackOverflowError);
+    }
+    try {
+      waiting.get(5, TimeUnit.SECONDS);
+      Assert.fail("Waiting action should have failed");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    Assert.assertEquals(0, scheduler.getActiveMatches());
+  }
+
+  @Test
+  public void testFactoryWithoutThreads() {
+    GameScheduler scheduler = new GameScheduler(task -> null);
+    Assert.assertThrows(IllegalStateException.class, () -> scheduler.schedule(
+            new ReversiGameModel(4), ai(ReversiPiece.BLACK), ai(ReversiPiece.WHITE)));
+    Assert.assertEquals(0, scheduler.getActiveMatches());
+  }
+}
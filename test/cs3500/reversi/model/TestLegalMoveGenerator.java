@@ -0,0 +1,118 @@
+package cs3500.reversi.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test Suite for testing the bitboard LegalMoveGenerator against moves found by walking the board
+ * one tile at a time.
+ */
+public class TestLegalMoveGenerator {
+
+  // asserts that the generator finds exactly the tiles the current player can move to, found by
+  // walking out from every empty tile along each direction, one tile at a time.
+  private void assertMatchesModel(ReversiModel model) {
+    LegalMoveGenerator generator = new LegalMoveGenerator(model.getHexSideLength());
+    HexGrid grid = generator.getGrid();
+    long[] moves = generator.newBitboard();
+    generator.legalMoves(model, model.getCurrentPlayer(), moves);
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int index = grid.getCell(i);
+      boolean legal = isLegalByRays(model, grid.getQ(index), grid.getR(index), grid.getS(index));
+      Assert.assertEquals(legal, LegalMoveGenerator.isSet(moves, index));
+      Assert.assertEquals(legal, model.isValidMove(grid.getQ(index), grid.getR(index),
+              grid.getS(index), model.getCurrentPlayer()));
+    }
+  }
+
+  // true if the tile is empty and, in some direction, is followed by one or more of the
+  // opponent's discs and then one of the current player's. this reads the board only through
+  // getPieceAt, so it does not share any code with the generator.
+  static boolean isLegalByRays(ReadOnlyReversiModel model, int q, int r, int s) {
+    int n = model.getHexSideLength();
+    ReversiPiece me = model.getCurrentPlayer();
+    if (model.getPieceAt(q, r, s) != ReversiPiece.EMPTY) {
+      return false;
+    }
+    for (int[] direction : HexGrid.CUBE_DIRECTION_VECTORS) {
+      int steps = 1;
+      while (onBoard(q + steps * direction[0], r + steps * direction[1],
+              s + steps * direction[2], n)) {
+        ReversiPiece piece = model.getPieceAt(q + steps * direction[0],
+                r + steps * direction[1], s + steps * direction[2]);
+        if (piece == ReversiPiece.EMPTY) {
+          break;
+        } else if (piece == me) {
+          if (steps > 1) {
+            return true;
+          }
+          break;
+        }
+        steps += 1;
+      }
+    }
+    return false;
+  }
+
+  private static boolean onBoard(int q, int r, int s, int n) {
+    return Math.abs(q) < n && Math.abs(r) < n && Math.abs(s) < n;
+  }
+
+  @Test
+  public void testStartingMoves() {
+    ReversiModel model = new ReversiGameModel(3);
+    model.startGame();
+    LegalMoveGenerator generator = new LegalMoveGenerator(3);
+    long[] moves = generator.newBitboard();
+    generator.legalMoves(model, ReversiPiece.BLACK, moves);
+
+    // black can start by moving to one of the six tiles two steps out from the center
+    Assert.assertEquals(6, LegalMoveGenerator.count(moves));
+    Assert.assertTrue(LegalMoveGenerator.isSet(moves, generator.getGrid().indexOf(1, -2, 1)));
+    Assert.assertFalse(LegalMoveGenerator.isSet(moves, generator.getGrid().indexOf(0, 0, 0)));
+    assertMatchesModel(model);
+  }
+
+  @Test
+  public void testMatchesModelThroughWholeGame() {
+    for (int size = 2; size <= 8; size++) {
+      ReversiModel model = new ReversiGameModel(size);
+      model.startGame();
+      LegalMoveGenerator generator = new LegalMoveGenerator(size);
+      long[] moves = generator.newBitboard();
+      while (!model.isGameOver()) {
+        assertMatchesModel(model);
+        generator.legalMoves(model, model.getCurrentPlayer(), moves);
+        int move = LegalMoveGenerator.nextSetBit(moves, 0);
+        if (move == -1) {
+          model.pass();
+        } else {
+          HexGrid grid = generator.getGrid();
+          model.move(grid.getQ(move), grid.getR(move), grid.getS(move));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testBitboardHelpers() {
+    long[] bits = new long[3];
+    LegalMoveGenerator.set(bits, 5);
+    LegalMoveGenerator.set(bits, 130);
+    Assert.assertEquals(2, LegalMoveGenerator.count(bits));
+    Assert.assertEquals(5, LegalMoveGenerator.nextSetBit(bits, 0));
+    Assert.assertEquals(130, LegalMoveGenerator.nextSetBit(bits, 6));
+    Assert.assertEquals(-1, LegalMoveGenerator.nextSetBit(bits, 131));
+    LegalMoveGenerator.clear(bits, 5);
+    LegalMoveGenerator.clear(bits, 130);
+    Assert.assertTrue(LegalMoveGenerator.isEmpty(bits));
+  }
+
+  @Test
+  public void testWrongSizedModel() {
+    LegalMoveGenerator generator = new LegalMoveGenerator(4);
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            generator.legalMoves(new ReversiGameModel(5), ReversiPiece.BLACK,
+                    generator.newBitboard()));
+  }
+}
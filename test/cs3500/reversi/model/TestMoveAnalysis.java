@@ -0,0 +1,157 @@
+package cs3500.reversi.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import cs3500.reversi.player.CaptureMostStrategy;
+import cs3500.reversi.player.IPlayerMove;
+import cs3500.reversi.player.Move;
+import cs3500.reversi.player.ReversiPosn;
+
+/**
+ * Test Suite for testing the single pass analysis of a player's moves against the model's other
+ * observations.
+ */
+public class TestMoveAnalysis {
+
+  // asserts that the analysis lists exactly the valid moves, with the tiles gained the model
+  // reports for each, and flip masks matching what actually happens when each move is made.
+  private void assertMatchesModel(ReversiModel model, MoveAnalysis analysis) {
+    HexGrid grid = analysis.getGrid();
+    ReversiPiece player = model.getCurrentPlayer();
+    int found = 0;
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int cell = grid.getCell(i);
+      int q = grid.getQ(cell);
+      int r = grid.getR(cell);
+      int s = grid.getS(cell);
+      int move = analysis.indexOfCell(cell);
+      Assert.assertEquals(model.isValidMove(q, r, s, player), move != -1);
+      if (move == -1) {
+        continue;
+      }
+      found += 1;
+      Assert.assertEquals(model.numTilesGained(q, r, s, player), analysis.getTilesGained(move));
+
+      Map<Tile, ReversiPiece> before = model.getBoard();
+      ReversiModel copy = new ReversiGameModel(before, model.getHexSideLength());
+      copy.startGame();
+      if (player == ReversiPiece.WHITE) {
+        copy.pass();
+      }
+      copy.move(q, r, s);
+      int flipped = 0;
+      for (Map.Entry<Tile, ReversiPiece> entry : before.entrySet()) {
+        Tile t = entry.getKey();
+        boolean changed = entry.getValue() != ReversiPiece.EMPTY
+                && copy.getPieceAt(t) != entry.getValue();
+        Assert.assertEquals(changed,
+                analysis.isFlipped(move, grid.indexOf(t.getQ(), t.getR(), t.getS())));
+        flipped += changed ? 1 : 0;
+      }
+      Assert.assertEquals(flipped, analysis.getNumFlipped(move));
+    }
+    Assert.assertEquals(found, analysis.size());
+  }
+
+  @Test
+  public void testStartingMoves() {
+    ReversiModel model = new ReversiGameModel(3);
+    model.startGame();
+    MoveAnalysis analysis = model.analyzeMoves(ReversiPiece.BLACK);
+    Assert.assertEquals(6, analysis.size());
+    int move = analysis.indexOfCell(analysis.getGrid().indexOf(1, -2, 1));
+    Assert.assertEquals(1, analysis.getNumFlipped(move));
+    Assert.assertTrue(analysis.isFlipped(move, analysis.getGrid().indexOf(1, -1, 0)));
+    Assert.assertEquals(-1, analysis.indexOfCell(analysis.getGrid().indexOf(0, 0, 0)));
+    assertMatchesModel(model, analysis);
+  }
+
+  @Test
+  public void testMatchesModelThroughWholeGame() {
+    for (int size = 2; size <= 7; size++) {
+      ReversiModel model = new ReversiGameModel(size);
+      model.startGame();
+      while (!model.isGameOver()) {
+        MoveAnalysis analysis = model.analyzeMoves(model.getCurrentPlayer());
+        assertMatchesModel(model, analysis);
+        if (analysis.isEmpty()) {
+          model.pass();
+        } else {
+          int last = analysis.size() - 1;
+          model.move(analysis.getQ(last), analysis.getR(last), analysis.getS(last));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testFilterSkipsTiles() {
+    ReversiModel model = new ReversiGameModel(3);
+    model.startGame();
+    HexGrid grid = HexGrid.of(3);
+    int only = grid.indexOf(1, -2, 1);
+    MoveAnalysis analysis = model.analyzeMoves(ReversiPiece.BLACK, cell -> cell == only);
+    Assert.assertEquals(1, analysis.size());
+    Assert.assertEquals(only, analysis.getCell(0));
+    Assert.assertThrows(IndexOutOfBoundsException.class, () -> analysis.getCell(1));
+  }
+
+  @Test
+  public void testOtherPlayerMatchesDefault() {
+    // white's moves on black's turn take the read-only interface's default path
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    model.move(1, -2, 1);
+    model.pass();
+    MoveAnalysis analysis = model.analyzeMoves(ReversiPiece.BLACK);
+    for (int i = 0; i < analysis.size(); i++) {
+      Assert.assertTrue(model.isValidMove(analysis.getQ(i), analysis.getR(i), analysis.getS(i),
+              ReversiPiece.BLACK));
+    }
+    MoveAnalysis other = model.analyzeMoves(ReversiPiece.WHITE);
+    for (int i = 0; i < other.size(); i++) {
+      Assert.assertEquals(model.numTilesGained(other.getQ(i), other.getR(i), other.getS(i),
+              ReversiPiece.WHITE), other.getTilesGained(i));
+    }
+  }
+
+  @Test
+  public void testBestMoveFromAnalysis() {
+    ReversiModel model = new ReversiGameModel(6);
+    model.startGame();
+    IPlayerMove best = ReversiPosn.findBestMove(model.analyzeMoves(ReversiPiece.BLACK)).get();
+    Assert.assertEquals(new CaptureMostStrategy().playStrategy(model, ReversiPiece.BLACK).get(),
+            best);
+    Assert.assertEquals(new Move(new ReversiPosn(-1, -1, 2)), best);
+  }
+
+  @Test
+  public void testBestMoveBreaksTiesLikeMap() {
+    // many moves gaining few tiles, so most analyses have ties, and up to 80 moves, so some
+    // crowd a bucket of the map
+    Random rand = new Random(3500);
+    for (int trial = 0; trial < 2000; trial++) {
+      HexGrid grid = HexGrid.of(3 + rand.nextInt(10));
+      List<Tile> tiles = new ArrayList<>(grid.getTiles());
+      Collections.shuffle(tiles, rand);
+      MoveAnalysis analysis = new MoveAnalysis(grid, 1);
+      Map<ReversiPosn, Integer> moves = new HashMap<>();
+      int size = 1 + rand.nextInt(Math.min(80, tiles.size()));
+      for (int i = 0; i < size; i++) {
+        Tile tile = tiles.get(i);
+        int gained = rand.nextInt(3);
+        analysis.add(grid.indexOf(tile.getQ(), tile.getR(), tile.getS()), gained);
+        moves.put(new ReversiPosn(tile.getQ(), tile.getR(), tile.getS()), gained);
+      }
+      Assert.assertEquals(ReversiPosn.findBestMove(moves), ReversiPosn.findBestMove(analysis));
+    }
+  }
+}
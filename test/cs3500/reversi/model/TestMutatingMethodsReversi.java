@@ -215,4 +215,18 @@ public class TestMutatingMethodsReversi {
   }
 
 
-}
\ No newline at end of file
+
+  @Test
+  public void testValidMovesFollowMovesAndPasses() {
+    Assert.assertTrue(model.isValidMove(1, -2, 1, ReversiPiece.BLACK));
+    model.move(1, -2, 1); // black
+    // the tile is taken now, so it is no longer a valid move for anyone
+    Assert.assertFalse(model.isValidMove(1, -2, 1, ReversiPiece.WHITE));
+    Assert.assertTrue(model.isValidMove(2, -1, -1, ReversiPiece.WHITE));
+    model.pass(); // white
+    // passing leaves the board alone, so black's moves are read from the same board
+    Assert.assertTrue(model.isValidMove(-1, -1, 2, ReversiPiece.BLACK));
+    model.move(-1, -1, 2); // black
+    Assert.assertFalse(model.isValidMove(-1, -1, 2, ReversiPiece.WHITE));
+  }
+}
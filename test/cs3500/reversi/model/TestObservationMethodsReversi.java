@@ -36,6 +36,26 @@ public class TestObservationMethodsReversi {
             new Tile(0, 1, -1)
     ));
     Assert.assertEquals(expectedNeighbors, t.getNeighbors());
+    assertSame(t.getNeighbors(), t.getNeighbors());
+    Assert.assertThrows(UnsupportedOperationException.class, () ->
+            t.getNeighbors().add(new Tile(0, 0, 0)));
+  }
+
+  @Test
+  public void testGridTilesAreShared() {
+    HexGrid grid = HexGrid.of(3);
+    Tile center = grid.getTile(grid.indexOf(0, 0, 0));
+    Assert.assertEquals(new Tile(0, 0, 0), center);
+    assertSame(center, grid.getTile(grid.indexOf(0, 0, 0)));
+    assertSame(center, grid.getTiles().get(grid.getNumCells() / 2));
+    // a shared tile's neighbors on the board are the shared tiles, the rest are plain tiles
+    assertSame(grid.getTile(grid.indexOf(1, 0, -1)), center.getNeighbors().get(0));
+    Tile edge = grid.getTile(grid.indexOf(2, 0, -2));
+    Assert.assertEquals(new Tile(3, 0, -3), edge.getNeighbors().get(0));
+    // the board handed out by the model is keyed by the shared tiles
+    for (Tile t : model.getBoard().keySet()) {
+      assertSame(grid.getTile(grid.indexOf(t.getQ(), t.getR(), t.getS())), t);
+    }
   }
 
   @Test
@@ -221,4 +241,51 @@ public class TestObservationMethodsReversi {
     model.move(1,-2, 1);
     Assert.assertEquals(model.getScore(ReversiPiece.BLACK), 5);
   }
+
+  @Test
+  public void testScoresStayInStepWithBoard() {
+    model.move(1, -2, 1); // black
+    model.move(2, -1, -1); // white
+    model.move(-1, -1, 2); // black
+    for (ReversiPiece piece : ReversiPiece.values()) {
+      int count = 0;
+      for (ReversiPiece p : model.getBoard().values()) {
+        if (p == piece) {
+          count += 1;
+        }
+      }
+      Assert.assertEquals(count, model.getScore(piece));
+    }
+    // every one of the 19 tiles is counted exactly once
+    Assert.assertEquals(19, model.getScore(ReversiPiece.BLACK)
+            + model.getScore(ReversiPiece.WHITE) + model.getScore(ReversiPiece.EMPTY));
+  }
+
+  @Test
+  public void testSnapshotDoesNotChangeWithGame() {
+    BoardSnapshot before = model.snapshot();
+    Map<Tile, ReversiPiece> boardBefore = model.getBoard();
+    Assert.assertEquals(boardBefore, before.toMap());
+    model.move(1, -2, 1);
+    BoardSnapshot after = model.snapshot();
+    // the old snapshot still shows the board from before the move
+    Assert.assertEquals(boardBefore, before.toMap());
+    Assert.assertEquals(ReversiPiece.EMPTY, before.getPieceAt(1, -2, 1));
+    Assert.assertEquals(3, before.getScore(ReversiPiece.BLACK));
+    Assert.assertEquals(ReversiPiece.BLACK, after.getPieceAt(new Tile(1, -2, 1)));
+    Assert.assertEquals(model.getBoard(), after.toMap());
+    Assert.assertEquals(model.getScore(ReversiPiece.BLACK), after.getScore(ReversiPiece.BLACK));
+    Assert.assertEquals(model.getScore(ReversiPiece.EMPTY), after.getScore(ReversiPiece.EMPTY));
+    Assert.assertThrows(IllegalArgumentException.class, () -> after.getPieceAt(3, 0, -3));
+  }
+
+  @Test
+  public void testDefaultSnapshotReadsThroughModel() {
+    model.move(1, -2, 1);
+    StringBuilder log = new StringBuilder();
+    BoardSnapshot snapshot = new MockLogReversiGameModel(model, log).snapshot();
+    Assert.assertTrue(log.toString().contains("getPieceAt: 1, -2, 1"));
+    Assert.assertEquals(model.getBoard(), snapshot.toMap());
+    Assert.assertEquals(model.getScore(ReversiPiece.WHITE), snapshot.getScore(ReversiPiece.WHITE));
+  }
 }
@@ -0,0 +1,80 @@
+package cs3500.reversi.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test Suite for testing the Perft position counts.
+ */
+public class TestPerft {
+
+  @Test
+  public void testShallowCounts() {
+    // nothing is played at depth 0, and black opens with one move next to each of its discs on
+    // either side, so six moves on any board
+    for (int n = 3; n <= 8; n++) {
+      Assert.assertEquals(1, Perft.count(n, 0));
+      Assert.assertEquals(6, Perft.count(n, 1));
+    }
+  }
+
+  @Test
+  public void testMatchesFirstModel() {
+    // counted by replaying every line on the first ReversiGameModel, which checked moves tile by
+    // tile and had no LegalMoveGenerator, so these do not depend on anything count uses
+    int[] sides = {2, 3, 4, 5, 6, 8};
+    long[][] counts = {
+        {1, 1, 1, 1, 1, 1, 1}, // black has no move to start with
+        {1, 6, 18, 30, 42, 42, 42},
+        {1, 6, 24, 72, 234, 738, 2514, 8370, 30354, 102552},
+        {1, 6, 24, 72, 234, 780, 2844},
+        {1, 6, 24, 72, 234, 780, 2874, 11400},
+        {1, 6, 24, 72, 234, 780, 2874},
+    };
+    for (int i = 0; i < sides.length; i++) {
+      for (int depth = 0; depth < counts[i].length; depth++) {
+        Assert.assertEquals("side " + sides[i] + ", depth " + depth,
+                counts[i][depth], Perft.count(sides[i], depth));
+      }
+    }
+  }
+
+  @Test
+  public void testMatchesModel() {
+    for (int n = 2; n <= 5; n++) {
+      for (int depth = 0; depth <= 5; depth++) {
+        Assert.assertEquals("side " + n + ", depth " + depth,
+                Perft.countWithModel(n, depth), Perft.count(n, depth));
+      }
+    }
+  }
+
+  @Test
+  public void testParallelMatchesSingleThreaded() {
+    for (int n = 3; n <= 6; n++) {
+      for (int threads = 1; threads <= 4; threads++) {
+        Assert.assertEquals(Perft.count(n, 6), Perft.countParallel(n, 6, threads));
+      }
+    }
+  }
+
+  @Test
+  public void testRestoresPosition() {
+    SearchPosition position = new SearchPosition(5);
+    long hash = position.getHash();
+    Perft.count(position, 5);
+    Assert.assertEquals(hash, position.getHash());
+    Assert.assertEquals(0, position.getPly());
+    Assert.assertEquals(ReversiPiece.BLACK, position.getCurrentPlayer());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeDepth() {
+    Perft.count(4, -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoThreads() {
+    Perft.countParallel(4, 3, 0);
+  }
+}
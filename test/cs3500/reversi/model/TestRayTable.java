@@ -0,0 +1,55 @@
+package cs3500.reversi.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test Suite for testing the precomputed rays of a RayTable.
+ */
+public class TestRayTable {
+
+  @Test
+  public void testTablesAreShared() {
+    Assert.assertSame(RayTable.of(4), RayTable.of(4));
+    Assert.assertThrows(IllegalArgumentException.class, () -> RayTable.of(1));
+  }
+
+  @Test
+  public void testRayFromCenterGoesToEdge() {
+    RayTable table = RayTable.of(3);
+    HexGrid grid = table.getGrid();
+    // direction 0 is (+1, 0, -1), the first neighbor listed by Tile.getNeighbors
+    int[] ray = table.getRay(grid.indexOf(0, 0, 0), 0);
+    Assert.assertArrayEquals(new int[]{grid.indexOf(1, 0, -1), grid.indexOf(2, 0, -2)}, ray);
+  }
+
+  @Test
+  public void testRayOffTheEdgeIsEmpty() {
+    RayTable table = RayTable.of(3);
+    HexGrid grid = table.getGrid();
+    // (2, 0, -2) is on the right edge, so there is nothing further right of it
+    Assert.assertEquals(0, table.getRay(grid.indexOf(2, 0, -2), 0).length);
+    // but walking back left crosses the whole board
+    Assert.assertEquals(4, table.getRay(grid.indexOf(2, 0, -2), 3).length);
+  }
+
+  @Test
+  public void testEveryRayMatchesNeighbors() {
+    RayTable table = RayTable.of(5);
+    HexGrid grid = table.getGrid();
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int index = grid.getCell(i);
+      Tile tile = new Tile(grid.getQ(index), grid.getR(index), grid.getS(index));
+      for (int d = 0; d < RayTable.NUM_DIRECTIONS; d++) {
+        Tile neighbor = tile.getNeighbors().get(d);
+        int[] ray = table.getRay(index, d);
+        Assert.assertEquals(grid.contains(neighbor.getQ(), neighbor.getR(), neighbor.getS()),
+                ray.length > 0);
+        if (ray.length > 0) {
+          Assert.assertEquals(grid.indexOf(neighbor.getQ(), neighbor.getR(), neighbor.getS()),
+                  ray[0]);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package cs3500.reversi.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Test Suite for testing that a SearchPosition plays by the same rules as the model, and that
+ * taking moves back restores it exactly.
+ */
+public class TestSearchPosition {
+
+  // asserts that the position shows the same board, player, and end of game as the model
+  private void assertMatchesModel(ReversiModel model, SearchPosition position) {
+    HexGrid grid = position.getGrid();
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      int cell = grid.getCell(i);
+      Assert.assertEquals(model.getPieceAt(grid.getQ(cell), grid.getR(cell), grid.getS(cell)),
+              position.getPieceAt(cell));
+    }
+    Assert.assertEquals(model.getCurrentPlayer(), position.getCurrentPlayer());
+    Assert.assertEquals(model.getScore(ReversiPiece.BLACK), position.getScore(ReversiPiece.BLACK));
+    Assert.assertEquals(model.getScore(ReversiPiece.WHITE), position.getScore(ReversiPiece.WHITE));
+    Assert.assertEquals(model.isGameOver(), position.isGameOver());
+  }
+
+  // asserts that two positions have the same board, player, and passes
+  private void assertSamePosition(SearchPosition expected, SearchPosition actual) {
+    HexGrid grid = expected.getGrid();
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      Assert.assertEquals(expected.getPieceAt(grid.getCell(i)),
+              actual.getPieceAt(grid.getCell(i)));
+    }
+    Assert.assertEquals(expected.getCurrentPlayer(), actual.getCurrentPlayer());
+    Assert.assertEquals(expected.getConsecutivePasses(), actual.getConsecutivePasses());
+    Assert.assertEquals(expected.getScore(ReversiPiece.BLACK),
+            actual.getScore(ReversiPiece.BLACK));
+    Assert.assertEquals(expected.getScore(ReversiPiece.WHITE),
+            actual.getScore(ReversiPiece.WHITE));
+  }
+
+  @Test
+  public void testStartMatchesModel() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    assertMatchesModel(model, new SearchPosition(4));
+    assertMatchesModel(model, new SearchPosition(model));
+    Assert.assertThrows(IllegalStateException.class, () ->
+            new SearchPosition(new ReversiGameModel(4)));
+  }
+
+  @Test
+  public void testRandomGamesMatchModel() {
+    Random rand = new Random(7);
+    for (int game = 0; game < 20; game++) {
+      int size = 2 + game % 6;
+      ReversiModel model = new ReversiGameModel(size);
+      model.startGame();
+      SearchPosition position = new SearchPosition(size);
+      long[] moves = new LegalMoveGenerator(size).newBitboard();
+      while (!model.isGameOver()) {
+        assertMatchesModel(model, position);
+        position.legalMoves(moves);
+        int count = LegalMoveGenerator.count(moves);
+        if (count == 0 || rand.nextInt(10) == 0) {
+          model.pass();
+          position.makePass();
+        } else {
+          int move = LegalMoveGenerator.nextSetBit(moves, 0);
+          for (int skip = rand.nextInt(count); skip > 0; skip--) {
+            move = LegalMoveGenerator.nextSetBit(moves, move + 1);
+          }
+          HexGrid grid = position.getGrid();
+          model.move(grid.getQ(move), grid.getR(move), grid.getS(move));
+          position.makeMove(move);
+        }
+      }
+      assertMatchesModel(model, position);
+      Assert.assertEquals(model.getWinner(), position.getWinner());
+    }
+  }
+
+  @Test
+  public void testUnmakeRestoresPosition() {
+    Random rand = new Random(11);
+    SearchPosition position = new SearchPosition(5);
+    SearchPosition start = new SearchPosition(5);
+    SearchPosition[] history = new SearchPosition[200];
+    long[] moves = new LegalMoveGenerator(5).newBitboard();
+    int ply = 0;
+    while (!position.isGameOver()) {
+      history[ply] = new SearchPosition(5);
+      history[ply].copyFrom(position);
+      position.legalMoves(moves);
+      int move = LegalMoveGenerator.nextSetBit(moves, rand.nextInt(60));
+      if (move == -1) {
+        move = LegalMoveGenerator.nextSetBit(moves, 0);
+      }
+      if (move == -1) {
+        position.makePass();
+      } else {
+        Assert.assertTrue(position.makeMove(move) > 0);
+      }
+      ply += 1;
+    }
+    Assert.assertEquals(ply, position.getPly());
+    while (ply > 0) {
+      ply -= 1;
+      position.unmakeMove();
+      assertSamePosition(history[ply], position);
+    }
+    assertSamePosition(start, position);
+    Assert.assertThrows(IllegalStateException.class, position::unmakeMove);
+  }
+
+  @Test
+  public void testIllegalMoves() {
+    SearchPosition position = new SearchPosition(3);
+    HexGrid grid = position.getGrid();
+    // the center is empty but flanks nothing, and (1, 0, -1) already holds a disc
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            position.makeMove(grid.indexOf(0, 0, 0)));
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            position.makeMove(grid.indexOf(1, 0, -1)));
+    // indices of padding slots and indices past the board are not tiles at all
+    for (int index = -1; index <= grid.getNumSlots(); index++) {
+      if (index < 0 || index == grid.getNumSlots()
+              || !grid.contains(grid.getQ(index), grid.getR(index), grid.getS(index))) {
+        int padding = index;
+        Assert.assertThrows(IllegalArgumentException.class, () -> position.makeMove(padding));
+      }
+    }
+    Assert.assertEquals(0, position.getPly());
+    Assert.assertThrows(IllegalArgumentException.class, () ->
+            position.copyFrom(new SearchPosition(4)));
+  }
+
+  @Test
+  public void testTwoPassesEndGame() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    model.pass();
+    SearchPosition position = new SearchPosition(model);
+    Assert.assertEquals(1, position.getConsecutivePasses());
+    position.makePass();
+    Assert.assertTrue(position.isGameOver());
+    position.unmakeMove();
+    Assert.assertFalse(position.isGameOver());
+  }
+}
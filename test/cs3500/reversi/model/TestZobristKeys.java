@@ -0,0 +1,85 @@
+package cs3500.reversi.model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Test Suite for testing Zobrist hashing of positions in the model and in search positions.
+ */
+public class TestZobristKeys {
+
+  @Test
+  public void testKeysAreSharedAndStable() {
+    Assert.assertSame(ZobristKeys.of(5), ZobristKeys.of(5));
+    Assert.assertEquals(0L, ZobristKeys.of(5).pieceKey(0, ReversiPiece.EMPTY));
+    Assert.assertNotEquals(0L, ZobristKeys.of(5).turnKey());
+    // the start of a game hashes the same every time
+    ReversiModel first = new ReversiGameModel(5);
+    ReversiModel second = new ReversiGameModel(5);
+    Assert.assertEquals(first.getPositionHash(), second.getPositionHash());
+  }
+
+  @Test
+  public void testIncrementalHashMatchesScratch() {
+    Random rand = new Random(3);
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    ZobristKeys keys = ZobristKeys.of(5);
+    while (!model.isGameOver()) {
+      // the mock only has the read-only default, which hashes from scratch
+      Assert.assertEquals(keys.hash(model), model.getPositionHash());
+      Assert.assertEquals(model.getPositionHash(),
+              new MockLogReversiGameModel(model, new StringBuilder()).getPositionHash());
+      Assert.assertEquals(model.getPositionHash(), new SearchPosition(model).getHash());
+      MoveAnalysis moves = model.analyzeMoves(model.getCurrentPlayer());
+      if (moves.isEmpty() || rand.nextInt(8) == 0) {
+        model.pass();
+      } else {
+        int move = rand.nextInt(moves.size());
+        model.move(moves.getQ(move), moves.getR(move), moves.getS(move));
+      }
+    }
+  }
+
+  @Test
+  public void testTurnIsPartOfHash() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    long blackToMove = model.getPositionHash();
+    model.pass();
+    Assert.assertEquals(blackToMove ^ ZobristKeys.of(4).turnKey(), model.getPositionHash());
+  }
+
+  @Test
+  public void testTranspositionsHashTheSame() {
+    // two orders of the same four moves reach the same board
+    SearchPosition first = new SearchPosition(4);
+    SearchPosition second = new SearchPosition(4);
+    HexGrid grid = first.getGrid();
+    int[] moves = {grid.indexOf(-2, 1, 1), grid.indexOf(-3, 1, 2),
+        grid.indexOf(-1, 2, -1), grid.indexOf(1, 1, -2)};
+    first.makeMove(moves[0]);
+    first.makeMove(moves[1]);
+    first.makeMove(moves[2]);
+    first.makeMove(moves[3]);
+    second.makeMove(moves[2]);
+    second.makeMove(moves[3]);
+    second.makeMove(moves[0]);
+    second.makeMove(moves[1]);
+    for (int i = 0; i < grid.getNumCells(); i++) {
+      Assert.assertEquals(first.getPieceAt(grid.getCell(i)), second.getPieceAt(grid.getCell(i)));
+    }
+    Assert.assertEquals(first.getHash(), second.getHash());
+    long before = first.getHash();
+    first.makePass();
+    Assert.assertNotEquals(before, first.getHash());
+    first.unmakeMove();
+    Assert.assertEquals(before, first.getHash());
+    while (first.getPly() > 0) {
+      first.unmakeMove();
+    }
+    Assert.assertEquals(new SearchPosition(4).getHash(), first.getHash());
+  }
+}
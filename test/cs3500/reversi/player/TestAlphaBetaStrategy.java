@@ -0,0 +1,126 @@
+package cs3500.reversi.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.LegalMoveGenerator;
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Test Suite for testing the look-ahead AlphaBetaStrategy and its search.
+ */
+public class TestAlphaBetaStrategy {
+
+  private long minimaxNodes; // the number of positions minimax has searched
+
+  // plain minimax without any pruning, to check alpha-beta's scores against
+  private int minimax(SearchPosition position, PositionEvaluator evaluator, int depth) {
+    this.minimaxNodes += 1;
+    if (position.isGameOver()) {
+      return AlphaBetaSearch.terminalScore(position);
+    }
+    if (depth == 0) {
+      return evaluator.evaluate(position, position.getCurrentPlayer());
+    }
+    long[] moves = new long[(position.getGrid().getNumSlots() + 63) / 64];
+    position.legalMoves(moves);
+    if (LegalMoveGenerator.isEmpty(moves)) {
+      position.makePass();
+      int score = -minimax(position, evaluator, depth - 1);
+      position.unmakeMove();
+      return score;
+    }
+    int best = -AlphaBetaSearch.INFINITY;
+    for (int cell = LegalMoveGenerator.nextSetBit(moves, 0); cell != -1;
+         cell = LegalMoveGenerator.nextSetBit(moves, cell + 1)) {
+      position.makeMove(cell);
+      best = Math.max(best, -minimax(position, evaluator, depth - 1));
+      position.unmakeMove();
+    }
+    return best;
+  }
+
+  @Test
+  public void testMatchesMinimax() {
+    PositionEvaluator evaluator = new WeightedTileEvaluator();
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    for (int turn = 0; turn < 8 && !model.isGameOver(); turn++) {
+      for (int depth = 1; depth <= 4; depth++) {
+        SearchPosition position = new SearchPosition(model);
+        AlphaBetaSearch search = new AlphaBetaSearch(position, evaluator);
+        int best = search.searchRoot(depth);
+        Assert.assertEquals(minimax(new SearchPosition(model), evaluator, depth),
+                search.getBestScore());
+        // the search leaves its position as it found it
+        Assert.assertEquals(0, position.getPly());
+        HexGrid grid = position.getGrid();
+        Assert.assertTrue(model.isValidMove(grid.getQ(best), grid.getR(best), grid.getS(best),
+                model.getCurrentPlayer()));
+      }
+      new Strategy(new CaptureMostStrategy()).chooseMove(model, model.getCurrentPlayer())
+              .run(model);
+    }
+  }
+
+  @Test
+  public void testPlaysWholeGame() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    Strategy black = new Strategy(new AlphaBetaStrategy(3));
+    Strategy white = new Strategy(new CaptureMostStrategy());
+    while (!model.isGameOver()) {
+      Strategy toMove = model.getCurrentPlayer() == ReversiPiece.BLACK ? black : white;
+      toMove.chooseMove(model, model.getCurrentPlayer()).run(model);
+    }
+    Assert.assertNotNull(model.getWinner());
+  }
+
+  @Test
+  public void testTakesCorner() {
+    // white can take the corner (0, -3, 3) or one of three tiles that are not corners
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    model.move(1, -2, 1); // black
+    model.move(2, -3, 1); // white
+    model.move(1, -3, 2); // black
+    Assert.assertTrue(model.isValidMove(0, -3, 3, ReversiPiece.WHITE));
+    Assert.assertEquals(4, model.analyzeMoves(ReversiPiece.WHITE).size());
+    Optional<IPlayerMove> move = new AlphaBetaStrategy(1).playStrategy(model, ReversiPiece.WHITE);
+    Assert.assertEquals(Optional.of(new Move(new ReversiPosn(0, -3, 3))), move);
+  }
+
+  @Test
+  public void testNotItsTurn() {
+    ReversiModel model = new ReversiGameModel(4);
+    Assert.assertEquals(Optional.empty(),
+            new AlphaBetaStrategy(2).playStrategy(model, ReversiPiece.BLACK));
+    model.startGame();
+    Assert.assertEquals(Optional.empty(),
+            new AlphaBetaStrategy(2).playStrategy(model, ReversiPiece.WHITE));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new AlphaBetaStrategy(0));
+  }
+
+  @Test
+  public void testDepthSixOnSideSixPrunes() {
+    ReversiModel model = new ReversiGameModel(6);
+    model.startGame();
+    for (int turn = 0; turn < 10; turn++) {
+      new Strategy(new CaptureMostStrategy()).chooseMove(model, model.getCurrentPlayer())
+              .run(model);
+    }
+    Assert.assertFalse(model.isGameOver());
+    PositionEvaluator evaluator = new WeightedTileEvaluator();
+    AlphaBetaSearch search = new AlphaBetaSearch(new SearchPosition(model), evaluator);
+    search.searchRoot(6);
+    Assert.assertEquals(minimax(new SearchPosition(model), evaluator, 6), search.getBestScore());
+    // the same score from a small fraction of the positions, however fast the machine is
+    Assert.assertTrue(search.getNodes() * 10 < this.minimaxNodes);
+  }
+}
@@ -0,0 +1,173 @@
+package cs3500.reversi.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import cs3500.reversi.model.LegalMoveGenerator;
+import cs3500.reversi.model.MoveAnalysis;
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+import cs3500.reversi.model.Tile;
+
+/**
+ * Test Suite for testing the exact EndgameSolver and the EndgameStrategy that uses it.
+ */
+public class TestEndgameStrategy {
+
+  // the final disc difference under perfect play, by trying every line to the end
+  private int minimax(SearchPosition position) {
+    if (position.isGameOver()) {
+      ReversiPiece me = position.getCurrentPlayer();
+      ReversiPiece them = me == ReversiPiece.BLACK ? ReversiPiece.WHITE : ReversiPiece.BLACK;
+      return position.getScore(me) - position.getScore(them);
+    }
+    long[] moves = new long[(position.getGrid().getNumSlots() + 63) / 64];
+    position.legalMoves(moves);
+    if (LegalMoveGenerator.isEmpty(moves)) {
+      position.makePass();
+      int score = -minimax(position);
+      position.unmakeMove();
+      return score;
+    }
+    int best = Integer.MIN_VALUE;
+    for (int cell = LegalMoveGenerator.nextSetBit(moves, 0); cell != -1;
+         cell = LegalMoveGenerator.nextSetBit(moves, cell + 1)) {
+      position.makeMove(cell);
+      best = Math.max(best, -minimax(position));
+      position.unmakeMove();
+    }
+    return best;
+  }
+
+  // replays the given tiles (null for a pass) from the start of a game
+  private ReversiModel replay(int hexSideLength, List<Tile> played) {
+    ReversiModel model = new ReversiGameModel(hexSideLength);
+    model.startGame();
+    for (Tile tile : played) {
+      if (tile == null) {
+        model.pass();
+      } else {
+        model.move(tile.getQ(), tile.getR(), tile.getS());
+      }
+    }
+    return model;
+  }
+
+  // plays random games, and collects every position along the way where the game is not over,
+  // the player to move has a legal move, and at most the given number of tiles are empty
+  private List<ReversiModel> endgames(int hexSideLength, int empties, int games) {
+    List<ReversiModel> found = new ArrayList<>();
+    for (int seed = 0; seed < games; seed++) {
+      Random rand = new Random(seed);
+      List<Tile> played = new ArrayList<>();
+      ReversiModel model = replay(hexSideLength, played);
+      while (!model.isGameOver()) {
+        MoveAnalysis moves = model.analyzeMoves(model.getCurrentPlayer());
+        if (moves.isEmpty()) {
+          model.pass();
+          played.add(null);
+          continue;
+        }
+        if (new SearchPosition(model).getScore(ReversiPiece.EMPTY) <= empties) {
+          found.add(replay(hexSideLength, played));
+        }
+        int move = rand.nextInt(moves.size());
+        model.move(moves.getQ(move), moves.getR(move), moves.getS(move));
+        played.add(new Tile(moves.getQ(move), moves.getR(move), moves.getS(move)));
+      }
+    }
+    return found;
+  }
+
+  @Test
+  public void testMatchesMinimax() {
+    List<ReversiModel> positions = endgames(3, 13, 10);
+    positions.addAll(endgames(4, 9, 20));
+    Assert.assertTrue(positions.size() >= 50);
+    for (ReversiModel model : positions) {
+      SearchPosition position = new SearchPosition(model);
+      SearchResult result = EndgameStrategy.solve(model);
+      Assert.assertTrue(result.getMove().isPresent());
+      Assert.assertEquals(minimax(position), result.getScore());
+      Assert.assertEquals(position.getScore(ReversiPiece.EMPTY), result.getDepth());
+      // the chosen move really does force that score
+      result.getMove().get().run(model);
+      Assert.assertEquals(-result.getScore(), minimax(new SearchPosition(model)));
+    }
+  }
+
+  @Test
+  public void testSameAsSolvingEveryMove() {
+    // ties are broken the same way as by the other strategies; on a side-3 board, several moves
+    // often force the same score
+    int tied = 0;
+    List<ReversiModel> positions = endgames(3, 13, 30);
+    positions.addAll(endgames(4, 9, 40));
+    Assert.assertTrue(positions.size() >= 100);
+    for (ReversiModel model : positions) {
+      MoveAnalysis moves = model.analyzeMoves(model.getCurrentPlayer());
+      Map<ReversiPosn, Integer> scores = new HashMap<>();
+      for (int i = 0; i < moves.size(); i++) {
+        SearchPosition position = new SearchPosition(model);
+        position.makeMove(moves.getCell(i));
+        scores.put(new ReversiPosn(moves.getQ(i), moves.getR(i), moves.getS(i)),
+                -minimax(position));
+      }
+      int best = Collections.max(scores.values());
+      if (Collections.frequency(scores.values(), best) > 1) {
+        tied += 1;
+      }
+      Assert.assertEquals(ReversiPosn.findBestMove(scores),
+              EndgameStrategy.solve(model).getMove());
+    }
+    // enough of the positions have several best moves for the tie-break to matter
+    Assert.assertTrue(tied >= 10);
+  }
+
+  @Test
+  public void testFallsBackAboveThreshold() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    EndgameStrategy strategy = new EndgameStrategy(10, new CaptureMostStrategy());
+    Assert.assertEquals(new CaptureMostStrategy().playStrategy(model, ReversiPiece.BLACK),
+            strategy.playStrategy(model, ReversiPiece.BLACK));
+    Assert.assertEquals(Optional.empty(), strategy.playStrategy(model, ReversiPiece.WHITE));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new EndgameStrategy(-1, new CaptureMostStrategy()));
+  }
+
+  @Test
+  public void testPlaysWholeGame() {
+    // on a side-3 board the solver takes over from the first move, so black finishes at least as
+    // far ahead as the score it solved for then, whatever white plays
+    List<IPlayerMoveStrategy> whites = new ArrayList<>();
+    whites.add(new CaptureMostStrategy());
+    whites.add(new AlphaBetaStrategy(1));
+    whites.add(new AlphaBetaStrategy(3));
+    for (IPlayerMoveStrategy whiteStrategy : whites) {
+      ReversiModel model = new ReversiGameModel(3);
+      model.startGame();
+      Assert.assertEquals(13, new SearchPosition(model).getScore(ReversiPiece.EMPTY));
+      int forced = EndgameStrategy.solve(model).getScore();
+      Strategy black = new Strategy(new EndgameStrategy(13, new CaptureMostStrategy()));
+      Strategy white = new Strategy(whiteStrategy);
+      while (!model.isGameOver()) {
+        ReversiPiece toMove = model.getCurrentPlayer();
+        (toMove == ReversiPiece.BLACK ? black : white).chooseMove(model, toMove).run(model);
+      }
+      SearchPosition end = new SearchPosition(model);
+      Assert.assertTrue(end.getScore(ReversiPiece.BLACK) - end.getScore(ReversiPiece.WHITE)
+              >= forced);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package cs3500.reversi.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Test Suite for testing the time-limited IterativeDeepeningStrategy.
+ */
+public class TestIterativeDeepeningStrategy {
+
+  @Test
+  public void testStaysWithinBudget() {
+    ReversiModel model = new ReversiGameModel(7);
+    model.startGame();
+    IterativeDeepeningStrategy strategy = new IterativeDeepeningStrategy(50);
+    long start = System.nanoTime();
+    SearchResult result = strategy.search(model, ReversiPiece.BLACK);
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    Assert.assertTrue(result.getMove().isPresent());
+    Assert.assertTrue(result.getDepth() >= 1);
+    Assert.assertTrue(result.getNodes() > 0);
+    // leave room for slow test machines, but far less than an unlimited search would take
+    Assert.assertTrue(elapsedMillis < 500);
+  }
+
+  @Test
+  public void testMatchesFixedDepthScore() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    model.move(1, -2, 1);
+    for (int depth = 1; depth <= 5; depth++) {
+      SearchResult result = new IterativeDeepeningStrategy(60_000, depth,
+              new WeightedTileEvaluator()).search(model, ReversiPiece.WHITE);
+      Assert.assertEquals(depth, result.getDepth());
+      AlphaBetaSearch fixed = new AlphaBetaSearch(new SearchPosition(model),
+              new WeightedTileEvaluator());
+      fixed.searchRoot(depth);
+      Assert.assertEquals(fixed.getBestScore(), result.getScore());
+    }
+  }
+
+  @Test
+  public void testStopsAtEndOfGame() {
+    // a side 2 board has one empty tile, so no search can look further than the game lasts
+    ReversiModel model = new ReversiGameModel(2);
+    model.startGame();
+    SearchResult result = new IterativeDeepeningStrategy(60_000).search(model,
+            ReversiPiece.BLACK);
+    Assert.assertTrue(result.getDepth() <= 4);
+  }
+
+  @Test
+  public void testNotItsTurn() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    SearchResult result = new IterativeDeepeningStrategy(10).search(model, ReversiPiece.WHITE);
+    Assert.assertFalse(result.getMove().isPresent());
+    Assert.assertEquals(0, result.getNodes());
+    Assert.assertThrows(IllegalArgumentException.class, () -> new IterativeDeepeningStrategy(0));
+  }
+
+  @Test
+  public void testAbortedSearchRestoresPosition() {
+    ReversiModel model = new ReversiGameModel(8);
+    model.startGame();
+    SearchPosition position = new SearchPosition(model);
+    AlphaBetaSearch search = new AlphaBetaSearch(position, new WeightedTileEvaluator());
+    search.setDeadline(System.nanoTime());
+    Assert.assertEquals(-1, search.searchRoot(12));
+    Assert.assertTrue(search.isAborted());
+    Assert.assertEquals(0, position.getPly());
+    search.clearDeadline();
+    Assert.assertNotEquals(-1, search.searchRoot(2));
+    Assert.assertFalse(search.isAborted());
+  }
+}
@@ -0,0 +1,110 @@
+package cs3500.reversi.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+
+/**
+ * Test Suite for testing the multi-threaded LazySmpStrategy.
+ */
+public class TestLazySmpStrategy {
+
+  @Test
+  public void testStaysWithinBudget() {
+    ReversiModel model = new ReversiGameModel(7);
+    model.startGame();
+    try (LazySmpStrategy strategy = new LazySmpStrategy(50, 4)) {
+      long start = System.nanoTime();
+      SearchResult result = strategy.search(model, ReversiPiece.BLACK);
+      long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+      Assert.assertTrue(result.getMove().isPresent());
+      Assert.assertTrue(result.getDepth() >= 1);
+      // the budget cut the search off long before the end of the game (121 empty tiles away)
+      Assert.assertTrue(result.getDepth() < 121);
+      // a loose bound, which only an unlimited search would miss even on a slow machine
+      Assert.assertTrue(elapsedMillis < 10_000);
+      // the helpers and the main thread found each other's positions in the shared table
+      Assert.assertTrue(strategy.getTranspositionTable().getHits() > 0);
+    }
+  }
+
+  @Test
+  public void testMatchesFixedDepthWhenSearchIsComplete() {
+    // with a depth limit and plenty of time, every thread finishes, and the main thread's score
+    // is the true score at that depth
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    model.move(1, -2, 1);
+    for (int depth = 1; depth <= 4; depth++) {
+      try (LazySmpStrategy strategy = new LazySmpStrategy(60_000, 3, depth,
+              new WeightedTileEvaluator(), 1 << 10)) {
+        SearchResult result = strategy.search(model, ReversiPiece.WHITE);
+        Assert.assertEquals(depth, result.getDepth());
+        SearchResult single = new IterativeDeepeningStrategy(60_000, depth,
+                new WeightedTileEvaluator(), 0).search(model, ReversiPiece.WHITE);
+        Assert.assertEquals(single.getScore(), result.getScore());
+      }
+    }
+  }
+
+  @Test
+  public void testPlaysWholeGame() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    try (LazySmpStrategy smp = new LazySmpStrategy(5, 3)) {
+      Strategy black = new Strategy(smp);
+      Strategy white = new Strategy(new CaptureMostStrategy());
+      while (!model.isGameOver()) {
+        Strategy toMove = model.getCurrentPlayer() == ReversiPiece.BLACK ? black : white;
+        toMove.chooseMove(model, model.getCurrentPlayer()).run(model);
+      }
+    }
+    Assert.assertNotNull(model.getWinner());
+  }
+
+  @Test
+  public void testNotItsTurn() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    try (LazySmpStrategy strategy = new LazySmpStrategy(10, 2)) {
+      Assert.assertEquals(Optional.empty(), strategy.playStrategy(model, ReversiPiece.WHITE));
+    }
+    Assert.assertThrows(IllegalArgumentException.class, () -> new LazySmpStrategy(10, 0));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new LazySmpStrategy(0, 2));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new LazySmpStrategy(10, 2, 5, new WeightedTileEvaluator(), 0));
+  }
+
+  @Test
+  public void testInterruptedSearchWaitsForHelpers() throws InterruptedException {
+    ReversiModel model = new ReversiGameModel(7);
+    model.startGame();
+    try (LazySmpStrategy strategy = new LazySmpStrategy(30, 4)) {
+      Thread.currentThread().interrupt();
+      Assert.assertTrue(strategy.playStrategy(model, ReversiPiece.BLACK).isPresent());
+      // the interrupt is kept rather than swallowed
+      Assert.assertTrue(Thread.interrupted());
+      // and no helper is still using the table once the move is returned
+      long probes = strategy.getTranspositionTable().getProbes();
+      Thread.sleep(50);
+      Assert.assertEquals(probes, strategy.getTranspositionTable().getProbes());
+    }
+  }
+
+  @Test
+  public void testClosedStrategyCannotSearch() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    LazySmpStrategy strategy = new LazySmpStrategy(10, 2);
+    Assert.assertTrue(strategy.playStrategy(model, ReversiPiece.BLACK).isPresent());
+    strategy.close();
+    Assert.assertThrows(RejectedExecutionException.class,
+        () -> strategy.playStrategy(model, ReversiPiece.BLACK));
+  }
+}
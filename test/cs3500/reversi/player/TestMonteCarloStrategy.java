@@ -0,0 +1,108 @@
+package cs3500.reversi.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+
+/**
+ * Test Suite for testing the Monte Carlo tree search MonteCarloStrategy.
+ */
+public class TestMonteCarloStrategy {
+
+  @Test
+  public void testPlayoutBudget() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    try (MonteCarloStrategy strategy = new MonteCarloStrategy(60_000, 500, 1, 7)) {
+      SearchResult result = strategy.search(model, ReversiPiece.BLACK);
+      Assert.assertEquals(500, result.getNodes());
+      Assert.assertTrue(result.getDepth() >= 2);
+      Assert.assertTrue(result.getScore() >= 0 && result.getScore() <= 1000);
+      Assert.assertTrue(result.getMove().isPresent());
+    }
+  }
+
+  @Test
+  public void testSameSeedSameMove() {
+    ReversiModel model = new ReversiGameModel(6);
+    model.startGame();
+    model.move(1, -2, 1);
+    try (MonteCarloStrategy first = new MonteCarloStrategy(60_000, 2_000, 1, 11);
+         MonteCarloStrategy second = new MonteCarloStrategy(60_000, 2_000, 1, 11)) {
+      Assert.assertEquals(first.playStrategy(model, ReversiPiece.WHITE),
+              second.playStrategy(model, ReversiPiece.WHITE));
+    }
+  }
+
+  @Test
+  public void testTimeBudgetWithThreads() {
+    ReversiModel model = new ReversiGameModel(7);
+    model.startGame();
+    // there is no limit on the number of games, so only the time budget can end the search
+    try (MonteCarloStrategy strategy = new MonteCarloStrategy(50, Long.MAX_VALUE, 4, 3)) {
+      SearchResult result = strategy.search(model, ReversiPiece.BLACK);
+      Assert.assertTrue(result.getMove().isPresent());
+      Assert.assertTrue(result.getNodes() > 0);
+    }
+  }
+
+  @Test
+  public void testPlaysWholeGame() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    try (MonteCarloStrategy mcts = new MonteCarloStrategy(60_000, 300, 2, 5)) {
+      Strategy black = new Strategy(mcts);
+      Strategy white = new Strategy(new CaptureMostStrategy());
+      while (!model.isGameOver()) {
+        Strategy toMove = model.getCurrentPlayer() == ReversiPiece.BLACK ? black : white;
+        toMove.chooseMove(model, model.getCurrentPlayer()).run(model);
+      }
+    }
+    Assert.assertNotNull(model.getWinner());
+  }
+
+  @Test
+  public void testNotItsTurn() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    try (MonteCarloStrategy strategy = new MonteCarloStrategy(10)) {
+      Assert.assertEquals(Optional.empty(), strategy.playStrategy(model, ReversiPiece.WHITE));
+    }
+    Assert.assertThrows(IllegalArgumentException.class, () -> new MonteCarloStrategy(0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new MonteCarloStrategy(10, 0, 1, 0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new MonteCarloStrategy(10, 10, 0, 0));
+  }
+
+  @Test
+  public void testInterruptedSearchWaitsForHelpers() {
+    ReversiModel model = new ReversiGameModel(6);
+    model.startGame();
+    try (MonteCarloStrategy strategy = new MonteCarloStrategy(60_000, 2000, 4, 7)) {
+      Thread.currentThread().interrupt();
+      SearchResult result = strategy.search(model, ReversiPiece.BLACK);
+      // the interrupt is kept rather than swallowed, and every game was played
+      Assert.assertTrue(Thread.interrupted());
+      Assert.assertTrue(result.getMove().isPresent());
+      Assert.assertEquals(2000, result.getNodes());
+    }
+  }
+
+  @Test
+  public void testClosedStrategyCannotSearch() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    MonteCarloStrategy strategy = new MonteCarloStrategy(60_000, 100, 2, 7);
+    Assert.assertTrue(strategy.playStrategy(model, ReversiPiece.BLACK).isPresent());
+    strategy.close();
+    Assert.assertThrows(RejectedExecutionException.class,
+        () -> strategy.playStrategy(model, ReversiPiece.BLACK));
+  }
+}
@@ -0,0 +1,98 @@
+package cs3500.reversi.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import cs3500.reversi.model.HexGrid;
+import cs3500.reversi.model.LegalMoveGenerator;
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Test Suite for testing the root-splitting ParallelAlphaBetaStrategy.
+ */
+public class TestParallelAlphaBetaStrategy {
+
+  // the move a single thread picks by scoring every move exactly and breaking ties by position
+  private Optional<IPlayerMove> expectedMove(ReversiModel model, int depth) {
+    SearchPosition position = new SearchPosition(model);
+    HexGrid grid = position.getGrid();
+    long[] legal = new long[(grid.getNumSlots() + 63) / 64];
+    position.legalMoves(legal);
+    Map<ReversiPosn, Integer> scores = new HashMap<>();
+    for (int cell = LegalMoveGenerator.nextSetBit(legal, 0); cell != -1;
+         cell = LegalMoveGenerator.nextSetBit(legal, cell + 1)) {
+      int score = new AlphaBetaSearch(position, new WeightedTileEvaluator())
+              .searchMove(cell, depth, -AlphaBetaSearch.INFINITY);
+      scores.put(new ReversiPosn(grid.getQ(cell), grid.getR(cell), grid.getS(cell)), score);
+    }
+    return ReversiPosn.findBestMove(scores);
+  }
+
+  @Test
+  public void testMatchesSingleThread() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    try (ParallelAlphaBetaStrategy parallel = new ParallelAlphaBetaStrategy(4, 4,
+            new WeightedTileEvaluator())) {
+      for (int turn = 0; turn < 8 && !model.isGameOver(); turn++) {
+        ReversiPiece toMove = model.getCurrentPlayer();
+        SearchResult result = parallel.search(model, toMove);
+        AlphaBetaSearch serial = new AlphaBetaSearch(new SearchPosition(model),
+                new WeightedTileEvaluator());
+        serial.searchRoot(4);
+        Assert.assertEquals(serial.getBestScore(), result.getScore());
+        Assert.assertEquals(expectedMove(model, 4), result.getMove());
+        Assert.assertTrue(result.getNodes() > 0);
+        new Strategy(new CaptureMostStrategy()).chooseMove(model, toMove).run(model);
+      }
+    }
+  }
+
+  @Test
+  public void testSameMoveEveryRun() {
+    ReversiModel model = new ReversiGameModel(6);
+    model.startGame();
+    model.move(1, -2, 1);
+    try (ParallelAlphaBetaStrategy parallel = new ParallelAlphaBetaStrategy(5, 8,
+            new WeightedTileEvaluator())) {
+      Optional<IPlayerMove> first = parallel.playStrategy(model, ReversiPiece.WHITE);
+      for (int run = 0; run < 10; run++) {
+        Assert.assertEquals(first, parallel.playStrategy(model, ReversiPiece.WHITE));
+      }
+      Assert.assertEquals(expectedMove(model, 5), first);
+    }
+  }
+
+  @Test
+  public void testNoMoveToMake() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    try (ParallelAlphaBetaStrategy parallel = new ParallelAlphaBetaStrategy(3)) {
+      Assert.assertFalse(parallel.playStrategy(model, ReversiPiece.WHITE).isPresent());
+      Assert.assertFalse(parallel.playStrategy(model, null).isPresent());
+    }
+    Assert.assertThrows(IllegalArgumentException.class, () -> new ParallelAlphaBetaStrategy(0));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new ParallelAlphaBetaStrategy(3, 0, new WeightedTileEvaluator()));
+  }
+
+  @Test
+  public void testClosedStrategyCannotSearch() {
+    ReversiModel model = new ReversiGameModel(4);
+    model.startGame();
+    ParallelAlphaBetaStrategy parallel = new ParallelAlphaBetaStrategy(3, 2,
+            new WeightedTileEvaluator());
+    Assert.assertTrue(parallel.playStrategy(model, ReversiPiece.BLACK).isPresent());
+    parallel.close();
+    Assert.assertThrows(RejectedExecutionException.class,
+        () -> parallel.playStrategy(model, ReversiPiece.BLACK));
+  }
+}
@@ -0,0 +1,123 @@
+package cs3500.reversi.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import cs3500.reversi.model.MoveAnalysis;
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+import cs3500.reversi.model.Tile;
+
+/**
+ * Test Suite for testing the table-driven PatternEvaluator.
+ */
+public class TestPatternEvaluator {
+
+  // the positions of a random game, one per turn
+  private List<SearchPosition> randomGame(int hexSideLength, long seed) {
+    Random rand = new Random(seed);
+    ReversiModel model = new ReversiGameModel(hexSideLength);
+    model.startGame();
+    List<SearchPosition> positions = new ArrayList<>();
+    while (!model.isGameOver()) {
+      positions.add(new SearchPosition(model));
+      MoveAnalysis moves = model.analyzeMoves(model.getCurrentPlayer());
+      if (moves.isEmpty()) {
+        model.pass();
+      } else {
+        int move = rand.nextInt(moves.size());
+        model.move(moves.getQ(move), moves.getR(move), moves.getS(move));
+      }
+    }
+    return positions;
+  }
+
+  @Test
+  public void testFairToBothPlayers() {
+    PositionEvaluator evaluator = new PatternEvaluator();
+    for (int n = 2; n <= 10; n++) {
+      // the starting position looks the same to both players
+      Assert.assertEquals(0, evaluator.evaluate(new SearchPosition(n), ReversiPiece.BLACK));
+      for (SearchPosition position : randomGame(n, n)) {
+        Assert.assertEquals(-evaluator.evaluate(position, ReversiPiece.BLACK),
+                evaluator.evaluate(position, ReversiPiece.WHITE));
+      }
+    }
+  }
+
+  // scores for black a side 4 board in its starting position, but with the given disc added
+  private int scoreWith(int q, int r, int s, ReversiPiece piece) {
+    ReversiModel start = new ReversiGameModel(4);
+    Map<Tile, ReversiPiece> board = start.getBoard();
+    board.put(new Tile(q, r, s), piece);
+    ReversiModel model = new ReversiGameModel(board, 4);
+    model.startGame();
+    return new PatternEvaluator().evaluate(new SearchPosition(model), ReversiPiece.BLACK);
+  }
+
+  @Test
+  public void testCornersCount() {
+    int none = scoreWith(3, -3, 0, ReversiPiece.EMPTY);
+    // holding a corner is good, and the tiles next to a corner nobody holds are bad
+    Assert.assertTrue(scoreWith(3, -3, 0, ReversiPiece.BLACK) > none);
+    Assert.assertTrue(scoreWith(3, -3, 0, ReversiPiece.WHITE) < none);
+    Assert.assertTrue(scoreWith(2, -2, 0, ReversiPiece.BLACK) < none);
+    Assert.assertTrue(scoreWith(2, -2, 0, ReversiPiece.WHITE) > none);
+  }
+
+  @Test
+  public void testSharedBetweenThreads() throws InterruptedException {
+    PositionEvaluator evaluator = new PatternEvaluator();
+    List<SearchPosition> positions = randomGame(6, 2);
+    int[] expected = new int[positions.size()];
+    for (int i = 0; i < expected.length; i++) {
+      expected[i] = evaluator.evaluate(positions.get(i), ReversiPiece.BLACK);
+    }
+    List<Thread> threads = new ArrayList<>();
+    List<Integer> wrong = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      Thread thread = new Thread(() -> {
+        for (int round = 0; round < 200; round++) {
+          for (int i = 0; i < expected.length; i++) {
+            // every thread reads positions of its own, since positions are not thread-safe
+            SearchPosition copy = new SearchPosition(6);
+            synchronized (positions) {
+              copy.copyFrom(positions.get(i));
+            }
+            if (evaluator.evaluate(copy, ReversiPiece.BLACK) != expected[i]) {
+              synchronized (wrong) {
+                wrong.add(i);
+              }
+            }
+          }
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertEquals(List.of(), wrong);
+  }
+
+  @Test
+  public void testPlaysWholeGame() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    Strategy black = new Strategy(new AlphaBetaStrategy(3, new PatternEvaluator()));
+    Strategy white = new Strategy(new CaptureMostStrategy());
+    while (!model.isGameOver()) {
+      Strategy toMove = model.getCurrentPlayer() == ReversiPiece.BLACK ? black : white;
+      toMove.chooseMove(model, model.getCurrentPlayer()).run(model);
+    }
+    Assert.assertNotNull(model.getWinner());
+  }
+}
@@ -0,0 +1,91 @@
+package cs3500.reversi.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Test Suite for testing the principal variation search and PrincipalVariationStrategy.
+ */
+public class TestPrincipalVariationStrategy {
+
+  @Test
+  public void testMatchesAlphaBeta() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    for (int turn = 0; turn < 6 && !model.isGameOver(); turn++) {
+      for (int depth = 1; depth <= 5; depth++) {
+        AlphaBetaSearch plain = new AlphaBetaSearch(new SearchPosition(model),
+                new WeightedTileEvaluator());
+        plain.searchRoot(depth);
+        for (TranspositionTable table : new TranspositionTable[] {null,
+            new TranspositionTable(1 << 12)}) {
+          SearchPosition position = new SearchPosition(model);
+          PrincipalVariationSearch pvs = new PrincipalVariationSearch(position,
+                  new WeightedTileEvaluator(), table);
+          pvs.searchRoot(depth, -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY);
+          Assert.assertEquals(plain.getBestScore(), pvs.getBestScore());
+          Assert.assertEquals(0, position.getPly());
+        }
+      }
+      new Strategy(new CaptureMostStrategy()).chooseMove(model, model.getCurrentPlayer())
+              .run(model);
+    }
+  }
+
+  @Test
+  public void testSearchesFewerPositions() {
+    ReversiModel model = new ReversiGameModel(6);
+    model.startGame();
+    AlphaBetaSearch plain = new AlphaBetaSearch(new SearchPosition(model),
+            new WeightedTileEvaluator());
+    PrincipalVariationSearch pvs = new PrincipalVariationSearch(new SearchPosition(model),
+            new WeightedTileEvaluator(), null);
+    for (int depth = 1; depth <= 6; depth++) {
+      plain.searchRoot(depth);
+      pvs.searchRoot(depth, -AlphaBetaSearch.INFINITY, AlphaBetaSearch.INFINITY);
+      Assert.assertEquals(plain.getBestScore(), pvs.getBestScore());
+    }
+    Assert.assertTrue(pvs.getNodes() < plain.getNodes());
+  }
+
+  @Test
+  public void testPrincipalVariationIsPlayable() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    SearchResult result = new PrincipalVariationStrategy(60_000, 5, new WeightedTileEvaluator(),
+            1 << 12).search(model, ReversiPiece.BLACK);
+    List<IPlayerMove> line = result.getPrincipalVariation();
+    Assert.assertEquals(5, result.getDepth());
+    Assert.assertFalse(line.isEmpty());
+    Assert.assertTrue(line.size() <= 5);
+    Assert.assertEquals(result.getMove().get(), line.get(0));
+    for (IPlayerMove move : line) {
+      move.run(model); // throws if the line is not legal
+    }
+    Assert.assertTrue(result.toString().contains(", pv " + line.get(0)));
+  }
+
+  @Test
+  public void testStaysWithinBudget() {
+    ReversiModel model = new ReversiGameModel(7);
+    model.startGame();
+    long start = System.nanoTime();
+    SearchResult result = new PrincipalVariationStrategy(50).search(model, ReversiPiece.BLACK);
+    long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    Assert.assertTrue(result.getMove().isPresent());
+    // the budget cut the search off long before the end of the game (121 empty tiles away)
+    Assert.assertTrue(result.getDepth() >= 1);
+    Assert.assertTrue(result.getDepth() < 121);
+    // a loose bound, which only an unlimited search would miss even on a slow machine
+    Assert.assertTrue(elapsedMillis < 10_000);
+    Assert.assertFalse(new PrincipalVariationStrategy(10).playStrategy(model, ReversiPiece.WHITE)
+            .isPresent());
+  }
+}
@@ -76,6 +76,8 @@ public class TestStrategies {
             "numTilesGained: 5."));
     Assert.assertTrue(out.toString().contains("isValidMove: 3, -1, -2, X.\n" +
             "numTilesGained: 3."));
+    // the strategy only asks about moves, so the rest of the board is never read
+    Assert.assertFalse(out.toString().contains("getPieceAt"));
   }
 
   @Test
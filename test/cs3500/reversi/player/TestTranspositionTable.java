@@ -0,0 +1,156 @@
+package cs3500.reversi.player;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import cs3500.reversi.model.ReversiGameModel;
+import cs3500.reversi.model.ReversiModel;
+import cs3500.reversi.model.ReversiPiece;
+import cs3500.reversi.model.SearchPosition;
+
+/**
+ * Test Suite for testing the TranspositionTable and its use by look-ahead searches.
+ */
+public class TestTranspositionTable {
+
+  @Test
+  public void testStoreAndProbe() {
+    TranspositionTable table = new TranspositionTable(16);
+    Assert.assertEquals(16, table.size());
+    Assert.assertEquals(TranspositionTable.MISS, table.probe(42L));
+    table.store(42L, 7, TranspositionTable.LOWER, -1_000_012, 35);
+    long entry = table.probe(42L);
+    Assert.assertEquals(-1_000_012, TranspositionTable.scoreOf(entry));
+    Assert.assertEquals(7, TranspositionTable.depthOf(entry));
+    Assert.assertEquals(TranspositionTable.LOWER, TranspositionTable.boundOf(entry));
+    Assert.assertEquals(35, TranspositionTable.moveOf(entry));
+    table.store(43L, 0, TranspositionTable.EXACT, 0, -1);
+    entry = table.probe(43L);
+    Assert.assertNotEquals(TranspositionTable.MISS, entry);
+    Assert.assertEquals(-1, TranspositionTable.moveOf(entry));
+    Assert.assertEquals(0, TranspositionTable.scoreOf(entry));
+  }
+
+  @Test
+  public void testReplacement() {
+    TranspositionTable table = new TranspositionTable(16);
+    table.store(5L, 6, TranspositionTable.EXACT, 10, 1);
+    // a shallower search of the same position keeps the deeper entry
+    table.store(5L, 2, TranspositionTable.EXACT, 20, 2);
+    Assert.assertEquals(10, TranspositionTable.scoreOf(table.probe(5L)));
+    table.store(5L, 6, TranspositionTable.UPPER, 30, 3);
+    Assert.assertEquals(30, TranspositionTable.scoreOf(table.probe(5L)));
+    // a different position that maps to the same entry replaces it, and the old one then misses
+    table.store(5L + 16, 1, TranspositionTable.EXACT, 40, 4);
+    Assert.assertEquals(TranspositionTable.MISS, table.probe(5L));
+    Assert.assertEquals(40, TranspositionTable.scoreOf(table.probe(5L + 16)));
+  }
+
+  @Test
+  public void testHitRate() {
+    TranspositionTable table = new TranspositionTable(8);
+    Assert.assertEquals(0.0, table.getHitRate(), 0.0);
+    table.store(1L, 1, TranspositionTable.EXACT, 1, 1);
+    table.probe(1L);
+    table.probe(2L);
+    table.probe(1L);
+    table.probe(3L);
+    Assert.assertEquals(4, table.getProbes());
+    Assert.assertEquals(2, table.getHits());
+    Assert.assertEquals(0.5, table.getHitRate(), 0.0);
+    table.clear();
+    Assert.assertEquals(0, table.getProbes());
+    Assert.assertEquals(TranspositionTable.MISS, table.probe(1L));
+  }
+
+  @Test
+  public void testBadSizes() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(12));
+    Assert.assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(-8));
+    // a power of two, but too big for the table's array, which says so rather than asking for a
+    // power of two
+    IllegalArgumentException tooBig = Assert.assertThrows(IllegalArgumentException.class,
+        () -> new TranspositionTable(TranspositionTable.MAX_ENTRIES * 2));
+    Assert.assertTrue(tooBig.getMessage().contains("2^29"));
+    Assert.assertThrows(IllegalArgumentException.class,
+        () -> new AlphaBetaStrategy(3, new WeightedTileEvaluator(), 100));
+    Assert.assertFalse(new AlphaBetaStrategy(3, new WeightedTileEvaluator(), 0)
+            .getTranspositionTable().isPresent());
+  }
+
+  @Test
+  public void testSharedBetweenThreads() throws InterruptedException {
+    // every thread stores entries whose data can be told from their hash, so a read that mixed
+    // two threads' writes would show up as a wrong score
+    TranspositionTable table = new TranspositionTable(64);
+    List<Thread> threads = new ArrayList<>();
+    List<Throwable> failures = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      SplittableRandom random = new SplittableRandom(t);
+      Thread thread = new Thread(() -> {
+        for (int i = 0; i < 200_000; i++) {
+          long hash = random.nextLong(1, 4096);
+          long entry = table.probe(hash);
+          if (entry != TranspositionTable.MISS
+                  && TranspositionTable.scoreOf(entry) != (int) (hash * 3)) {
+            throw new AssertionError("Torn entry for " + hash);
+          }
+          table.store(hash, (int) (hash & 0xFF), TranspositionTable.EXACT, (int) (hash * 3),
+                  (int) (hash & 0xFFF));
+        }
+      });
+      thread.setUncaughtExceptionHandler((th, e) -> {
+        synchronized (failures) {
+          failures.add(e);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    Assert.assertEquals(List.of(), failures);
+    Assert.assertTrue(table.getHitRate() > 0.0);
+  }
+
+  @Test
+  public void testSearchWithTableMatchesSearchWithout() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    TranspositionTable table = new TranspositionTable(1 << 12);
+    for (int turn = 0; turn < 6 && !model.isGameOver(); turn++) {
+      for (int depth = 1; depth <= 5; depth++) {
+        AlphaBetaSearch plain = new AlphaBetaSearch(new SearchPosition(model),
+                new WeightedTileEvaluator());
+        int plainMove = plain.searchRoot(depth);
+        table.clear();
+        SearchPosition position = new SearchPosition(model);
+        AlphaBetaSearch remembering = new AlphaBetaSearch(position, new WeightedTileEvaluator(),
+                table);
+        Assert.assertEquals(plainMove, remembering.searchRoot(depth));
+        Assert.assertEquals(plain.getBestScore(), remembering.getBestScore());
+        Assert.assertEquals(0, position.getPly());
+      }
+      new Strategy(new CaptureMostStrategy()).chooseMove(model, model.getCurrentPlayer())
+              .run(model);
+    }
+  }
+
+  @Test
+  public void testStrategyReportsHits() {
+    ReversiModel model = new ReversiGameModel(5);
+    model.startGame();
+    AlphaBetaStrategy strategy = new AlphaBetaStrategy(5);
+    Assert.assertTrue(strategy.playStrategy(model, ReversiPiece.BLACK).isPresent());
+    TranspositionTable table = strategy.getTranspositionTable().get();
+    Assert.assertEquals(AlphaBetaStrategy.DEFAULT_TABLE_SIZE, table.size());
+    Assert.assertTrue(table.getProbes() > 0);
+    Assert.assertTrue(table.getHits() > 0);
+  }
+}